@@ -0,0 +1,42 @@
+package datastructs.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Snapshot of how the entries of a {@link HashMap} are spread across its bins.
+ */
+@AllArgsConstructor
+@Getter
+@ToString
+public class ChainStats {
+    private int entries;
+
+    /**
+     * Number of bins holding at least one entry.
+     */
+    private int nonEmptyBins;
+
+    /**
+     * Number of bins that have been converted into trees.
+     */
+    private int treeBins;
+
+    /**
+     * Length of the longest chain, which is the most entries a lookup has to scan linearly.
+     */
+    private int maxChainLength;
+
+    /**
+     * Size of the largest tree bin. Lookups in a tree bin take O(log size) comparisons.
+     */
+    private int maxTreeBinSize;
+
+    /**
+     * @return the average number of entries per non-empty bin.
+     */
+    public double getAverageChainLength() {
+        return nonEmptyBins == 0 ? 0.0 : entries / (double) nonEmptyBins;
+    }
+}
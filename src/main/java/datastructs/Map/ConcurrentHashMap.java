@@ -0,0 +1,416 @@
+package datastructs.Map;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe implementation of the {@link Map} interface, modeled on java.util.concurrent.ConcurrentHashMap.
+ * Like {@link HashMap}, collisions are resolved by chaining, but each chain is a linked list of nodes whose links and
+ * values are volatile, so it can be read while it's being written to:
+ * - Reads never lock. A get reads the head of its bin and walks the chain, and sees every write that completed before
+ *   it started.
+ * - Writes to an empty bin CAS the new node in without locking. Writes to a non-empty bin lock on the bin's head node,
+ *   so writers only contend with each other when they hash to the same bin, rather than for the whole map.
+ * - The size is kept in a {@link LongAdder}, which spreads the count over several cells so that concurrent writers
+ *   don't all contend on a single counter.
+ *
+ * The map doubles in size when the number of elements exceeds the maxCapacityThreshold with respect to the capacity,
+ * and resizes cooperatively: the threads that cross the threshold race to claim the resize with a CAS, only the winner
+ * allocates the new table, and any writer that runs into the resize helps by claiming a stride of bins and moving them
+ * over. A moved bin is replaced with a forwarding
+ * node that points readers and writers to the new table, so the map stays fully usable during a resize.
+ * Each bin is moved under its head's lock, so writes to it can't be lost.
+ *
+ * Aggregate operations (size, keySet, values) are weakly consistent: they reflect the map at some point during the
+ * call, but may or may not include writes made concurrently with it.
+ */
+public class ConcurrentHashMap<K,V> implements Map<K,V> {
+
+    static final int DEFAULT_CAPACITY = 16;
+    static final int DEFAULT_RESIZE_FACTOR = 2;
+    static final double DEFAULT_CAPACITY_THRESHOLD = .75;
+
+    /**
+     * Number of bins a thread claims at a time while helping with a resize.
+     */
+    static final int TRANSFER_STRIDE = 16;
+
+    /**
+     * Hash of a forwarding node. Every other node's hash is non-negative.
+     */
+    static final int MOVED = -1;
+
+    private volatile Table<K,V> table;
+
+    private final LongAdder size = new LongAdder();
+
+    private final double maxCapacityThreshold;
+
+    @Builder
+    public ConcurrentHashMap(int capacity, double maxCapacityThreshold) {
+        if (capacity <= 0) {
+            capacity = DEFAULT_CAPACITY;
+        }
+        if (maxCapacityThreshold <= 0.0) {
+            maxCapacityThreshold = DEFAULT_CAPACITY_THRESHOLD;
+        }
+        this.maxCapacityThreshold = maxCapacityThreshold;
+        this.table = new Table<>(capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1, maxCapacityThreshold);
+    }
+
+    @Override
+    public void put(@NonNull K key, @NonNull V value) {
+        int hash = spread(key.hashCode());
+        Table<K,V> tab = table;
+        while (true) {
+            int index = hash & (tab.length() - 1);
+            Node<K,V> head = tab.bins.get(index);
+            if (head == null) {
+                if (tab.bins.compareAndSet(index, null, new Node<>(hash, key, value, null))) {
+                    break;
+                }
+            } else if (head.hash == MOVED) {
+                tab = helpResize(tab, (ForwardingNode<K,V>) head);
+            } else {
+                synchronized (head) {
+                    // The head may have been removed or moved by a resize while we were waiting for the lock
+                    if (tab.bins.get(index) != head) {
+                        continue;
+                    }
+                    Node<K,V> node = head;
+                    while (true) {
+                        if (node.hash == hash && node.key.equals(key)) {
+                            node.value = value;
+                            return;
+                        }
+                        if (node.next == null) {
+                            node.next = new Node<>(hash, key, value, null);
+                            break;
+                        }
+                        node = node.next;
+                    }
+                }
+                break;
+            }
+        }
+        size.increment();
+        if (size.sum() > tab.threshold) {
+            resize(tab);
+        }
+    }
+
+    @Override
+    public int size() {
+        long sum = size.sum();
+        return sum < 0 ? 0 : (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean remove(K key) {
+        if (key == null) {
+            return false;
+        }
+        int hash = spread(key.hashCode());
+        Table<K,V> tab = table;
+        while (true) {
+            int index = hash & (tab.length() - 1);
+            Node<K,V> head = tab.bins.get(index);
+            if (head == null) {
+                return false;
+            } else if (head.hash == MOVED) {
+                tab = helpResize(tab, (ForwardingNode<K,V>) head);
+            } else {
+                synchronized (head) {
+                    if (tab.bins.get(index) != head) {
+                        continue;
+                    }
+                    for (Node<K,V> node = head, prev = null; node != null; prev = node, node = node.next) {
+                        if (node.hash == hash && node.key.equals(key)) {
+                            if (prev == null) {
+                                tab.bins.set(index, node.next);
+                            } else {
+                                prev.next = node.next;
+                            }
+                            size.decrement();
+                            return true;
+                        }
+                    }
+                }
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        int hash = spread(key.hashCode());
+        Table<K,V> tab = table;
+        Node<K,V> node = tab.bins.get(hash & (tab.length() - 1));
+        while (node != null) {
+            if (node.hash == MOVED) {
+                tab = ((ForwardingNode<K,V>) node).nextTable;
+                node = tab.bins.get(hash & (tab.length() - 1));
+                continue;
+            }
+            if (node.hash == hash && node.key.equals(key)) {
+                return node.value;
+            }
+            node = node.next;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Set<K> keySet() {
+        Set<K> keySet = new HashSet<>();
+        forEachNode(node -> keySet.add(node.key));
+        return keySet;
+    }
+
+    /**
+     * @return every value in the map, including duplicates.
+     */
+    @Override
+    public List<V> values() {
+        List<V> values = new ArrayList<>();
+        forEachNode(node -> values.add(node.value));
+        return values;
+    }
+
+    public int getCapacity() {
+        return table.length();
+    }
+
+    /**
+     * Mixes the high bits of the hash code into the low bits, since masking only keeps the low bits, and clears the
+     * sign bit so that no hash collides with {@link #MOVED}.
+     */
+    static int spread(int h) {
+        return (h ^ (h >>> 16)) & Integer.MAX_VALUE;
+    }
+
+    private void forEachNode(Consumer<Node<K,V>> action) {
+        Table<K,V> tab = table;
+        for (int i = 0; i < tab.length(); i++) {
+            forEachNode(tab, i, action);
+        }
+    }
+
+    /**
+     * Visits every node in the bin, following it to the next table if it has been moved. Bin i of a table is split
+     * into bins i and i + length of the next table.
+     */
+    private void forEachNode(Table<K,V> tab, int index, Consumer<Node<K,V>> action) {
+        Node<K,V> head = tab.bins.get(index);
+        if (head != null && head.hash == MOVED) {
+            Table<K,V> next = ((ForwardingNode<K,V>) head).nextTable;
+            forEachNode(next, index, action);
+            forEachNode(next, index + tab.length(), action);
+            return;
+        }
+        for (Node<K,V> node = head; node != null; node = node.next) {
+            action.accept(node);
+        }
+    }
+
+    /**
+     * Starts resizing the table if nobody else has yet, and helps move its bins. Only the current table is resized,
+     * so a table's bins are never moved while an earlier resize is still moving bins into it.
+     */
+    private void resize(Table<K,V> tab) {
+        if (tab != table) {
+            return;
+        }
+        Resize<K,V> resize = tab.resize.get();
+        if (resize == null) {
+            // Claim the resize before allocating the next table, so that threads racing to resize don't each allocate
+            // a table only for all but one to be thrown away
+            Resize<K,V> claim = new Resize<>(tab);
+            if (tab.resize.compareAndSet(null, claim)) {
+                claim.start(new Table<>(tab.length() * DEFAULT_RESIZE_FACTOR, maxCapacityThreshold));
+            }
+            resize = tab.resize.get();
+        }
+        transfer(resize);
+    }
+
+    /**
+     * Helps with the resize that moved a bin, then returns the table to retry the write in.
+     */
+    private Table<K,V> helpResize(Table<K,V> tab, ForwardingNode<K,V> forwardingNode) {
+        transfer(tab.resize.get());
+        return forwardingNode.nextTable;
+    }
+
+    /**
+     * Claims strides of bins from the top of the old table down and moves them to the new table, until every bin has
+     * been claimed. Whichever thread moves the last bin publishes the new table. Returns straight away if the thread
+     * that claimed the resize hasn't allocated the new table yet - it moves the bins itself once it has.
+     */
+    private void transfer(Resize<K,V> resize) {
+        ForwardingNode<K,V> forwardingNode = resize.forwardingNode;
+        if (forwardingNode == null) {
+            return;
+        }
+        Table<K,V> old = resize.oldTable;
+        int length = old.length();
+        while (true) {
+            int hi = resize.transferIndex.get();
+            if (hi <= 0) {
+                return;
+            }
+            int lo = Math.max(0, hi - TRANSFER_STRIDE);
+            if (!resize.transferIndex.compareAndSet(hi, lo)) {
+                continue;
+            }
+            for (int i = lo; i < hi; i++) {
+                transferBin(resize.oldTable, forwardingNode, i);
+            }
+            if (resize.transferred.addAndGet(hi - lo) == length) {
+                table = forwardingNode.nextTable;
+            }
+        }
+    }
+
+    /**
+     * Splits bin i of the old table into bins i and i + length of the new table, depending on the next bit of each
+     * node's hash, then replaces it with a forwarding node. The nodes are copied rather than relinked, so that readers
+     * that are still walking the old chain aren't sent into the wrong bin.
+     */
+    private void transferBin(Table<K,V> old, ForwardingNode<K,V> forwardingNode, int index) {
+        Table<K,V> next = forwardingNode.nextTable;
+        while (true) {
+            Node<K,V> head = old.bins.get(index);
+            if (head == null) {
+                if (old.bins.compareAndSet(index, null, forwardingNode)) {
+                    return;
+                }
+                continue;
+            }
+            synchronized (head) {
+                if (old.bins.get(index) != head) {
+                    continue;
+                }
+                Node<K,V> low = null, high = null;
+                for (Node<K,V> node = head; node != null; node = node.next) {
+                    if ((node.hash & old.length()) == 0) {
+                        low = new Node<>(node.hash, node.key, node.value, low);
+                    } else {
+                        high = new Node<>(node.hash, node.key, node.value, high);
+                    }
+                }
+                next.bins.set(index, low);
+                next.bins.set(index + old.length(), high);
+                old.bins.set(index, forwardingNode);
+                return;
+            }
+        }
+    }
+
+    static class Node<K,V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        volatile Node<K,V> next;
+
+        Node(int hash, K key, V value, Node<K,V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Placed in a bin of the old table once the bin has been moved to the next table.
+     */
+    static class ForwardingNode<K,V> extends Node<K,V> {
+        final Table<K,V> nextTable;
+
+        ForwardingNode(Table<K,V> nextTable) {
+            super(MOVED, null, null, null);
+            this.nextTable = nextTable;
+        }
+    }
+
+    /**
+     * The bins of the map, along with the resize that replaces them. Each table is resized at most once.
+     */
+    static class Table<K,V> {
+        final AtomicReferenceArray<Node<K,V>> bins;
+
+        /**
+         * The map is resized once its size exceeds this.
+         */
+        final int threshold;
+
+        final AtomicReference<Resize<K,V>> resize = new AtomicReference<>();
+
+        Table(int capacity, double maxCapacityThreshold) {
+            this.bins = new AtomicReferenceArray<>(capacity);
+            this.threshold = (int) Math.min(capacity * maxCapacityThreshold, Integer.MAX_VALUE);
+        }
+
+        int length() {
+            return bins.length();
+        }
+    }
+
+    /**
+     * Progress of moving the bins of one table into the next.
+     */
+    static class Resize<K,V> {
+        final Table<K,V> oldTable;
+
+        /**
+         * Placed in every bin of the old table that has been moved, and points to the next table. Null until the
+         * thread that claimed the resize has allocated the next table.
+         */
+        volatile ForwardingNode<K,V> forwardingNode;
+
+        /**
+         * Bins below this index haven't been claimed by a thread yet. Bins are claimed from the top down.
+         */
+        final AtomicInteger transferIndex;
+
+        /**
+         * Number of bins that have been moved.
+         */
+        final AtomicInteger transferred = new AtomicInteger();
+
+        Resize(Table<K,V> oldTable) {
+            this.oldTable = oldTable;
+            this.transferIndex = new AtomicInteger(oldTable.length());
+        }
+
+        /**
+         * Publishes the next table, so that bins can start moving into it.
+         */
+        void start(Table<K,V> nextTable) {
+            forwardingNode = new ForwardingNode<>(nextTable);
+        }
+    }
+}
@@ -3,10 +3,16 @@ package datastructs.Map;
 import lombok.Builder;
 import lombok.NonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -16,9 +22,25 @@ import java.util.stream.Collectors;
  * The map resizes itself by a factor of 2 when one of the following happens:
  *  1. The number of elements exceeds some threshold with respect to the size of the underlying array. Defaults to
  *    .75 - that is, when the ratio of elements : array size exceeds 3/4, resize the array.
- *  2. (TBD) The max length of a chain exceeds some ratio w.r.t. the capacity of the hash table.
+ *  2. A chain grows longer than TREEIFY_THRESHOLD while the table is still smaller than MIN_TREEIFY_CAPACITY.
  * Each resize operation involves rehashing all the elements and is therefore a O(n) operation when n is the number of
  * elements in the map.
+ *
+ * That O(n) rehash normally happens all at once, inside whichever put crosses the threshold. With incrementalResize
+ * enabled, the map instead resizes gradually like Redis' dict: a resize only allocates the new table, and the old
+ * table is kept alongside it while its chains are migrated over a few at a time. Every put, get and remove migrates up
+ * to migrationStep chains (skipping at most 10 empty slots per chain, so a sparse table can't stall an operation), and
+ * get / remove check both tables until the migration is finished. New entries always go into the new table. This
+ * bounds the extra work of any single operation to a few chains rather than the whole map, at the cost of keeping
+ * both tables in memory during a migration.
+ *
+ * Once the table is at least MIN_TREEIFY_CAPACITY long, a chain that grows longer than TREEIFY_THRESHOLD is converted
+ * into a tree bin instead, since resizing won't shorten it if its keys share the same hash code (e.g. a poor hashCode
+ * or deliberate hash flooding). A tree bin finds a key by its hash code in O(log n), then among the keys sharing that
+ * hash code by compareTo if they're of the same Comparable class, also in O(log n). Only keys that share a hash code
+ * and can't be ordered that way (they aren't Comparable, or compareTo considers them equal) are scanned with equals.
+ * A tree bin that shrinks to UNTREEIFY_THRESHOLD entries or fewer is converted back into a chain.
+ * {@link #getChainStats} reports chain lengths and tree bins so this can be monitored.
  */
 public class HashMap<K,V> implements Map<K,V> {
 
@@ -27,9 +49,46 @@ public class HashMap<K,V> implements Map<K,V> {
     static final double DEFAULT_CAPACITY_THRESHOLD = .75;
 
     /**
-     * This stores all the chains for the map to address collisions.
+     * Migrating 2 chains per operation guarantees that a migration finishes before the next resize is due: the new
+     * table is twice the size of the old one, so at least (threshold * old length) more puts are needed to trigger
+     * another resize, while the old table is drained in (old length / 2) operations.
+     */
+    static final int DEFAULT_MIGRATION_STEP = 2;
+
+    /**
+     * Number of empty slots that may be skipped per chain migrated, so an operation does a bounded amount of work.
+     */
+    static final int MAX_EMPTY_VISITS_PER_STEP = 10;
+
+    /**
+     * A chain longer than this is converted into a tree bin (or the table is resized, if it's small).
+     */
+    static final int TREEIFY_THRESHOLD = 8;
+
+    /**
+     * A tree bin with this many entries or fewer is converted back into a chain. This is lower than TREEIFY_THRESHOLD
+     * so that a bin hovering around the threshold doesn't flip back and forth.
      */
-    private LinkedList<Entry<K,V>>[] table;
+    static final int UNTREEIFY_THRESHOLD = 6;
+
+    /**
+     * Below this capacity, long chains are more likely due to a crowded table than colliding hash codes, so the table
+     * is resized rather than treeifying the chain.
+     */
+    static final int MIN_TREEIFY_CAPACITY = 64;
+
+    /**
+     * This stores all the bins (chains or trees) for the map to address collisions.
+     */
+    private Bin<K,V>[] table;
+
+    /**
+     * The table being migrated away from during an incremental resize, or null if no migration is in progress.
+     * Bins at indices before migrationIndex have already been moved into the new table.
+     */
+    private Bin<K,V>[] oldTable;
+
+    private int migrationIndex;
 
     /**
      * Size of the number of elements in the map.
@@ -45,8 +104,18 @@ public class HashMap<K,V> implements Map<K,V> {
      */
     private double maxCapacityThreshold;
 
+    /**
+     * Whether to resize incrementally rather than rehashing the whole table at once.
+     */
+    private boolean incrementalResize;
+
+    /**
+     * Number of chains migrated per operation during an incremental resize.
+     */
+    private int migrationStep;
+
     @Builder
-    public HashMap(int capacity, double maxCapacityThreshold) {
+    public HashMap(int capacity, double maxCapacityThreshold, boolean incrementalResize, int migrationStep) {
         // Capacity not passed in as part from Builder. This isn't a field, so we're checking this here.
         if (capacity <= 0) {
             capacity = DEFAULT_CAPACITY;
@@ -55,9 +124,14 @@ public class HashMap<K,V> implements Map<K,V> {
         if (maxCapacityThreshold <= 0.0) {
             maxCapacityThreshold = DEFAULT_CAPACITY_THRESHOLD;
         }
+        if (migrationStep <= 0) {
+            migrationStep = DEFAULT_MIGRATION_STEP;
+        }
         // Initialize the table
         this.table = generateTable(capacity);
         this.maxCapacityThreshold = maxCapacityThreshold;
+        this.incrementalResize = incrementalResize;
+        this.migrationStep = migrationStep;
         this.size = 0;
     }
 
@@ -74,31 +148,34 @@ public class HashMap<K,V> implements Map<K,V> {
      * {@link maxCapacityThreshold} is set too low.
      */
     private void put(@NonNull K key, @NonNull V value, boolean resize) {
+        if (resize) {
+            migrate();
+            // The key may still be in a chain that hasn't been migrated yet. Update it there rather than adding a
+            // duplicate to the new table.
+            Entry<K,V> oldEntry = findInOldTable(key);
+            if (oldEntry != null) {
+                oldEntry.setValue(value);
+                return;
+            }
+        }
         // Ensure the index will be bounded by [0, length - 1]
-        int index = getIndex(key);
-        // Since there's possibilities for collisions, scan the chain at the hashed index to find
-        // the entry with the same key and update that. If it doesn't exist, we just add it to the list.
-        LinkedList<Entry<K,V>> chain = table[index];
-        boolean found = false;
-        Iterator<Entry<K,V>> it = chain.iterator();
-        while (it.hasNext() && !found) {
-            Entry<K,V> entry = it.next();
-            if (entry.getKey().equals(key)) {
-                // Found an existing entry with the same key
-                entry.setValue(value);
-                found = true;
-            }
-        }
-
-        // If we didn't find the entry above, add it to our map as a new entry
-        if (!found) {
-            chain.add(new Entry<>(key, value));
-            size++;
+        int index = getIndex(key, table);
+        // Since there's possibilities for collisions, search the bin at the hashed index to find
+        // the entry with the same key and update that. If it doesn't exist, we just add it to the bin.
+        Entry<K,V> entry = table[index].find(key);
+        if (entry != null) {
+            entry.setValue(value);
+            return;
         }
+        table[index].add(new Entry<>(key, value));
+        size++;
 
-        // Determine if we need to resize
-        if (resize && overCapacity()) {
+        // Determine if we need to resize, or to treeify a chain that's grown too long
+        boolean chainTooLong = !table[index].isTree() && table[index].size() > TREEIFY_THRESHOLD;
+        if (resize && (overCapacity() || (chainTooLong && table.length < MIN_TREEIFY_CAPACITY))) {
             resize();
+        } else if (chainTooLong && table.length >= MIN_TREEIFY_CAPACITY) {
+            table[index] = new TreeBin<>(table[index].entries());
         }
     }
 
@@ -109,17 +186,21 @@ public class HashMap<K,V> implements Map<K,V> {
 
     @Override
     public boolean remove(K key) {
-        int index = getIndex(key);
-        LinkedList<Entry<K,V>> chain = table[index];
-        Iterator<Entry<K,V>> it = chain.iterator();
-        boolean removed = false;
+        migrate();
+        boolean removed = remove(key, table);
+        if (!removed && oldTable != null && getIndex(key, oldTable) >= migrationIndex) {
+            removed = remove(key, oldTable);
+        }
+        return removed;
+    }
 
-        while (it.hasNext() && !removed) {
-            Entry<K,V> entry = it.next();
-            if (entry.getKey().equals(key)) {
-                it.remove();
-                size--;
-                removed = true;
+    private boolean remove(K key, Bin<K,V>[] table) {
+        int index = getIndex(key, table);
+        boolean removed = table[index].remove(key);
+        if (removed) {
+            size--;
+            if (table[index].isTree() && table[index].size() <= UNTREEIFY_THRESHOLD) {
+                table[index] = new ChainBin<>(table[index].entries());
             }
         }
         return removed;
@@ -127,16 +208,29 @@ public class HashMap<K,V> implements Map<K,V> {
 
     @Override
     public V get(K key) {
-        int index = getIndex(key);
-        LinkedList<Entry<K,V>> chain = table[index];
-        Iterator<Entry<K,V>> it = chain.iterator();
-        while (it.hasNext()) {
-            Entry<K,V> entry = it.next();
-            if (entry.getKey().equals(key)) {
-                return entry.getValue();
-            }
+        migrate();
+        Entry<K,V> entry = find(key, table);
+        if (entry == null) {
+            entry = findInOldTable(key);
         }
-        return null;
+        return entry == null ? null : entry.getValue();
+    }
+
+    /**
+     * @return the entry for the key in the given table, or null if there is none.
+     */
+    private Entry<K,V> find(K key, Bin<K,V>[] table) {
+        return table[getIndex(key, table)].find(key);
+    }
+
+    /**
+     * @return the entry for the key in a bin of the old table that hasn't been migrated yet, or null if there is none.
+     */
+    private Entry<K,V> findInOldTable(K key) {
+        if (oldTable == null || getIndex(key, oldTable) < migrationIndex) {
+            return null;
+        }
+        return find(key, oldTable);
     }
 
     @Override
@@ -152,8 +246,8 @@ public class HashMap<K,V> implements Map<K,V> {
     @Override
     public Set<K> keySet() {
         Set<K> keySet = new HashSet<>();
-        for (LinkedList<Entry<K,V>> chain : table) {
-            Set<K> chainKeys = chain.stream().map(Entry::getKey).collect(Collectors.toSet());
+        for (Bin<K,V> bin : bins()) {
+            Set<K> chainKeys = bin.entries().stream().map(Entry::getKey).collect(Collectors.toSet());
             keySet.addAll(chainKeys);
         }
         return keySet;
@@ -162,8 +256,8 @@ public class HashMap<K,V> implements Map<K,V> {
     @Override
     public Set<V> values() {
         Set<V> values = new HashSet<>();
-        for (LinkedList<Entry<K,V>> chain : table) {
-            Set<V> chainValues = chain.stream().map(Entry::getValue).collect(Collectors.toSet());
+        for (Bin<K,V> bin : bins()) {
+            Set<V> chainValues = bin.entries().stream().map(Entry::getValue).collect(Collectors.toSet());
             values.addAll(chainValues);
         }
         return values;
@@ -173,8 +267,48 @@ public class HashMap<K,V> implements Map<K,V> {
         return table.length;
     }
 
-    private int getIndex(K key) {
-        return key.hashCode() % table.length;
+    /**
+     * @return whether an incremental resize is in progress.
+     */
+    boolean isMigrating() {
+        return oldTable != null;
+    }
+
+    /**
+     * @return statistics on the lengths of the chains and the number of tree bins, e.g. for checking that no lookup
+     * has to scan a long chain.
+     */
+    public ChainStats getChainStats() {
+        int nonEmptyBins = 0, treeBins = 0, maxChainLength = 0, maxTreeBinSize = 0;
+        for (Bin<K,V> bin : bins()) {
+            if (bin.isEmpty()) {
+                continue;
+            }
+            nonEmptyBins++;
+            if (bin.isTree()) {
+                treeBins++;
+                maxTreeBinSize = Math.max(maxTreeBinSize, bin.size());
+            } else {
+                maxChainLength = Math.max(maxChainLength, bin.size());
+            }
+        }
+        return new ChainStats(size, nonEmptyBins, treeBins, maxChainLength, maxTreeBinSize);
+    }
+
+    /**
+     * @return every bin in the map, including the unmigrated bins of the old table during a migration.
+     */
+    private List<Bin<K,V>> bins() {
+        List<Bin<K,V>> bins = new ArrayList<>(Arrays.asList(table));
+        if (oldTable != null) {
+            bins.addAll(Arrays.asList(oldTable).subList(migrationIndex, oldTable.length));
+        }
+        return bins;
+    }
+
+    private int getIndex(K key, Bin<K,V>[] table) {
+        // floorMod rather than %, since hash codes can be negative
+        return Math.floorMod(key.hashCode(), table.length);
     }
 
     /**
@@ -185,17 +319,70 @@ public class HashMap<K,V> implements Map<K,V> {
     }
 
     private void resize() {
-        resize(DEFAULT_RESIZE_FACTOR);
+        if (incrementalResize) {
+            startMigration(DEFAULT_RESIZE_FACTOR);
+        } else {
+            resize(DEFAULT_RESIZE_FACTOR);
+        }
+    }
+
+    /**
+     * Allocates the expanded table and leaves the entries in the old table, to be moved over by {@link #migrate}.
+     */
+    private void startMigration(int resizeFactor) {
+        // A migration that's still going (only possible with a small migrationStep) has to finish first, since only
+        // one old table is kept
+        while (oldTable != null) {
+            migrateChain();
+        }
+        oldTable = table;
+        migrationIndex = 0;
+        table = generateTable(oldTable.length * resizeFactor);
+    }
+
+    /**
+     * Moves up to migrationStep chains from the old table into the new one, if a migration is in progress.
+     */
+    private void migrate() {
+        for (int i = 0; i < migrationStep && oldTable != null; i++) {
+            migrateChain();
+        }
+    }
+
+    /**
+     * Moves the next non-empty chain of the old table into the new one, skipping at most MAX_EMPTY_VISITS_PER_STEP
+     * empty chains on the way. Ends the migration once the old table has been drained.
+     */
+    private void migrateChain() {
+        int emptyVisits = 0;
+        while (migrationIndex < oldTable.length && oldTable[migrationIndex].isEmpty()
+                && emptyVisits++ < MAX_EMPTY_VISITS_PER_STEP) {
+            migrationIndex++;
+        }
+        if (migrationIndex < oldTable.length && !oldTable[migrationIndex].isEmpty()) {
+            for (Entry<K,V> entry : oldTable[migrationIndex].entries()) {
+                int index = getIndex(entry.getKey(), table);
+                table[index].add(entry);
+                if (!table[index].isTree() && table[index].size() > TREEIFY_THRESHOLD
+                        && table.length >= MIN_TREEIFY_CAPACITY) {
+                    table[index] = new TreeBin<>(table[index].entries());
+                }
+            }
+            migrationIndex++;
+        }
+        if (migrationIndex == oldTable.length) {
+            oldTable = null;
+        }
     }
 
     /**
      * Create a table of with the specified capacity and initialize all the indices with empty chains.
      */
-    private LinkedList<Entry<K,V>>[] generateTable(int capacity) {
-        LinkedList<Entry<K,V>>[] table = (LinkedList<Entry<K,V>>[]) new LinkedList<?>[capacity];
-        // Don't use Arrays.fill to replace this - fill uses the same reference to a LL for each index
+    private Bin<K,V>[] generateTable(int capacity) {
+        Bin<K,V>[] table = (Bin<K,V>[]) new Bin<?,?>[capacity];
+        // Don't use Arrays.fill to replace this - fill uses the same reference to a chain for each index
         for (int i = 0; i < capacity; i++) {
-            table[i] = new LinkedList<>();
+            table[i] = new ChainBin<>(List.of());
         }
         return table;
     }
@@ -207,18 +394,236 @@ public class HashMap<K,V> implements Map<K,V> {
      */
     private void resize(int resizeFactor) {
         // Expand the table by the given factor
-        LinkedList<Entry<K,V>>[] oldTable = table;
+        Bin<K,V>[] oldTable = table;
         table = generateTable(oldTable.length * resizeFactor);
 
         // Copy all elements from old table to the expanded table and rehash the elements into the new table
         // without increasing the size, so reset size to 0 and let put increment size.
         size = 0;
-        for (LinkedList<Entry<K,V>> chain : oldTable) {
-            Iterator<Entry<K,V>> it = chain.iterator();
+        for (Bin<K,V> bin : oldTable) {
+            Iterator<Entry<K,V>> it = bin.entries().iterator();
             while (it.hasNext()) {
                 Entry<K,V> entry = it.next();
                 this.put(entry.getKey(), entry.getValue(), false); // Adding to the new table, but don't resize
             }
         }
     }
+
+    /**
+     * The entries whose keys hash to the same index of the table.
+     */
+    private interface Bin<K,V> {
+        /**
+         * @return the entry for the key, or null if there is none.
+         */
+        Entry<K,V> find(K key);
+
+        /**
+         * Adds an entry whose key isn't in the bin yet.
+         */
+        void add(Entry<K,V> entry);
+
+        /**
+         * @return whether the key was in the bin.
+         */
+        boolean remove(K key);
+
+        int size();
+
+        default boolean isEmpty() {
+            return size() == 0;
+        }
+
+        boolean isTree();
+
+        Collection<Entry<K,V>> entries();
+    }
+
+    /**
+     * A bin that's scanned linearly, which is cheapest for the handful of entries that a bin normally holds.
+     */
+    private static class ChainBin<K,V> implements Bin<K,V> {
+        private final LinkedList<Entry<K,V>> chain;
+
+        ChainBin(Collection<Entry<K,V>> entries) {
+            this.chain = new LinkedList<>(entries);
+        }
+
+        @Override
+        public Entry<K,V> find(K key) {
+            for (Entry<K,V> entry : chain) {
+                if (entry.getKey().equals(key)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void add(Entry<K,V> entry) {
+            chain.add(entry);
+        }
+
+        @Override
+        public boolean remove(K key) {
+            Iterator<Entry<K,V>> it = chain.iterator();
+            while (it.hasNext()) {
+                if (it.next().getKey().equals(key)) {
+                    it.remove();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int size() {
+            return chain.size();
+        }
+
+        @Override
+        public boolean isTree() {
+            return false;
+        }
+
+        @Override
+        public Collection<Entry<K,V>> entries() {
+            return chain;
+        }
+    }
+
+    /**
+     * A bin of red-black trees ({@link TreeMap}s). The entries are grouped by the hash code of their key, and the groups
+     * are kept in a tree ordered by hash code.
+     */
+    private static class TreeBin<K,V> implements Bin<K,V> {
+        private final TreeMap<Integer, HashGroup<K,V>> groups = new TreeMap<>();
+
+        private int size;
+
+        TreeBin(Collection<Entry<K,V>> entries) {
+            for (Entry<K,V> entry : entries) {
+                add(entry);
+            }
+        }
+
+        @Override
+        public Entry<K,V> find(K key) {
+            HashGroup<K,V> group = groups.get(key.hashCode());
+            return group == null ? null : group.find(key);
+        }
+
+        @Override
+        public void add(Entry<K,V> entry) {
+            groups.computeIfAbsent(entry.getKey().hashCode(), hash -> new HashGroup<>()).add(entry);
+            size++;
+        }
+
+        @Override
+        public boolean remove(K key) {
+            HashGroup<K,V> group = groups.get(key.hashCode());
+            if (group == null || !group.remove(key)) {
+                return false;
+            }
+            if (group.isEmpty()) {
+                groups.remove(key.hashCode());
+            }
+            size--;
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean isTree() {
+            return true;
+        }
+
+        @Override
+        public Collection<Entry<K,V>> entries() {
+            List<Entry<K,V>> entries = new ArrayList<>(size);
+            for (HashGroup<K,V> group : groups.values()) {
+                group.addEntriesTo(entries);
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * The entries of a tree bin whose keys share a hash code. Keys of a Comparable class are kept in a tree per class,
+     * ordered by compareTo. compareTo is only ever called between keys of the same class, so each tree's ordering is
+     * consistent even when the group mixes classes. Keys that compareTo considers equal without being equal share a
+     * node, which is scanned with equals, and keys that aren't Comparable are kept in a chain.
+     */
+    private static class HashGroup<K,V> {
+        private final IdentityHashMap<Class<?>, TreeMap<K, LinkedList<Entry<K,V>>>> trees = new IdentityHashMap<>();
+
+        private final LinkedList<Entry<K,V>> chain = new LinkedList<>();
+
+        Entry<K,V> find(K key) {
+            if (!(key instanceof Comparable)) {
+                return findIn(chain, key);
+            }
+            TreeMap<K, LinkedList<Entry<K,V>>> tree = trees.get(key.getClass());
+            return tree == null ? null : findIn(tree.get(key), key);
+        }
+
+        void add(Entry<K,V> entry) {
+            K key = entry.getKey();
+            if (!(key instanceof Comparable)) {
+                chain.add(entry);
+                return;
+            }
+            trees.computeIfAbsent(key.getClass(), keyClass -> new TreeMap<>())
+                    .computeIfAbsent(key, k -> new LinkedList<>())
+                    .add(entry);
+        }
+
+        boolean remove(K key) {
+            if (!(key instanceof Comparable)) {
+                return chain.removeIf(entry -> entry.getKey().equals(key));
+            }
+            TreeMap<K, LinkedList<Entry<K,V>>> tree = trees.get(key.getClass());
+            LinkedList<Entry<K,V>> node = tree == null ? null : tree.get(key);
+            if (node == null || !node.removeIf(entry -> entry.getKey().equals(key))) {
+                return false;
+            }
+            // The tree keeps the key the node was created with. Re-key the node by one of its remaining entries, so
+            // that the removed key isn't kept reachable.
+            tree.remove(key);
+            if (!node.isEmpty()) {
+                tree.put(node.getFirst().getKey(), node);
+            } else if (tree.isEmpty()) {
+                trees.remove(key.getClass());
+            }
+            return true;
+        }
+
+        boolean isEmpty() {
+            return trees.isEmpty() && chain.isEmpty();
+        }
+
+        void addEntriesTo(List<Entry<K,V>> entries) {
+            for (TreeMap<K, LinkedList<Entry<K,V>>> tree : trees.values()) {
+                for (LinkedList<Entry<K,V>> node : tree.values()) {
+                    entries.addAll(node);
+                }
+            }
+            entries.addAll(chain);
+        }
+
+        private static <K,V> Entry<K,V> findIn(Collection<Entry<K,V>> entries, K key) {
+            if (entries != null) {
+                for (Entry<K,V> entry : entries) {
+                    if (entry.getKey().equals(key)) {
+                        return entry;
+                    }
+                }
+            }
+            return null;
+        }
+    }
 }
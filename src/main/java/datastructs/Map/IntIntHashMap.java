@@ -0,0 +1,267 @@
+package datastructs.Map;
+
+import lombok.Builder;
+
+/**
+ * Hash map from int keys to int values, e.g. for counters and ID mappings.
+ *
+ * A {@link HashMap}<Integer, Integer> boxes every key and value, allocates an {@link Entry} and a LinkedList node per
+ * entry, and calls hashCode / equals virtually on every lookup. Here the keys and values are stored unboxed in two
+ * parallel int[] arrays, so an entry takes 8 bytes of table space and nothing else.
+ *
+ * Collisions are resolved with linear probing over a power-of-two table. Since there's no null for a primitive, a
+ * slot is empty when its key is 0. The key 0 itself can still be stored: its entry is kept outside the table in
+ * hasZeroKey / zeroValue. Removal shifts the following entries of the probe sequence back rather than leaving a
+ * deleted marker behind, so lookups never have to skip over removed entries.
+ *
+ * Like {@link HashMap}, the table doubles in size when (number of elements / length of the table) exceeds the
+ * maxCapacityThreshold, which defaults to .75. Since every entry needs its own slot, the threshold must be less
+ * than 1. get, put, remove and increment are O(1) on average.
+ *
+ * {@link LongLongHashMap} is the same map for long keys and values. The two are kept line for line in step apart from the
+ * element type and the hash constant, so a change to one should be made to the other.
+ */
+public class IntIntHashMap {
+
+    static final int DEFAULT_CAPACITY = 16;
+    static final int DEFAULT_RESIZE_FACTOR = 2;
+    static final double DEFAULT_CAPACITY_THRESHOLD = .75;
+
+    /**
+     * Marks an empty slot in the keys array.
+     */
+    static final int EMPTY_KEY = 0;
+
+    private int[] keys;
+
+    private int[] values;
+
+    /**
+     * capacity - 1, for masking hashes down to a slot.
+     */
+    private int mask;
+
+    /**
+     * Number of entries, including the zero key.
+     */
+    private int size;
+
+    private boolean hasZeroKey;
+
+    private int zeroValue;
+
+    private final double maxCapacityThreshold;
+
+    /**
+     * The table is resized once the number of entries in it exceeds this.
+     */
+    private int maxSize;
+
+    @Builder
+    public IntIntHashMap(int capacity, double maxCapacityThreshold) {
+        if (capacity <= 0) {
+            capacity = DEFAULT_CAPACITY;
+        }
+        if (maxCapacityThreshold <= 0.0) {
+            maxCapacityThreshold = DEFAULT_CAPACITY_THRESHOLD;
+        } else if (maxCapacityThreshold >= 1.0) {
+            throw new IllegalArgumentException("Max capacity threshold must be less than 1: " + maxCapacityThreshold);
+        }
+        this.maxCapacityThreshold = maxCapacityThreshold;
+        generateTable(capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1);
+    }
+
+    /**
+     * @return the value for the key, or 0 if the key isn't in the map.
+     */
+    public int get(int key) {
+        return getOrDefault(key, 0);
+    }
+
+    /**
+     * @return the value for the key, or the default value if the key isn't in the map.
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == EMPTY_KEY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    public boolean containsKey(int key) {
+        return key == EMPTY_KEY ? hasZeroKey : find(key) >= 0;
+    }
+
+    public void put(int key, int value) {
+        if (key == EMPTY_KEY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+        int slot = slotFor(key);
+        if (keys[slot] == key) {
+            values[slot] = value;
+        } else {
+            add(slot, key, value);
+        }
+    }
+
+    /**
+     * Adds delta to the value for the key, treating a missing key as 0.
+     *
+     * @return the new value
+     */
+    public int increment(int key, int delta) {
+        if (key == EMPTY_KEY) {
+            put(key, zeroValue + delta);
+            return zeroValue;
+        }
+        int slot = slotFor(key);
+        if (keys[slot] == key) {
+            return values[slot] += delta;
+        }
+        add(slot, key, delta);
+        return delta;
+    }
+
+    /**
+     * @return whether the key was in the map.
+     */
+    public boolean remove(int key) {
+        if (key == EMPTY_KEY) {
+            if (!hasZeroKey) {
+                return false;
+            }
+            hasZeroKey = false;
+            zeroValue = 0;
+            size--;
+            return true;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        // Walk the rest of the probe sequence and shift back any entry whose home slot is at or before the gap, so
+        // that it can still be reached from its home slot without passing an empty slot.
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != EMPTY_KEY; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = EMPTY_KEY;
+        values[gap] = 0;
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getCapacity() {
+        return keys.length;
+    }
+
+    /**
+     * @return every key in the map, in no particular order.
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int i = 0;
+        if (hasZeroKey) {
+            result[i++] = EMPTY_KEY;
+        }
+        for (int key : keys) {
+            if (key != EMPTY_KEY) {
+                result[i++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return every value in the map, in the same order as {@link #keys()}.
+     */
+    public int[] values() {
+        int[] result = new int[size];
+        int i = 0;
+        if (hasZeroKey) {
+            result[i++] = zeroValue;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY_KEY) {
+                result[i++] = values[slot];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the slot holding the key, or -1 if it isn't in the map.
+     */
+    private int find(int key) {
+        int slot = slotFor(key);
+        return keys[slot] == key ? slot : -1;
+    }
+
+    /**
+     * @return the slot holding the key, or otherwise the empty slot where it would be added.
+     */
+    private int slotFor(int key) {
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY_KEY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void add(int slot, int key, int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (size - (hasZeroKey ? 1 : 0) > maxSize) {
+            resize();
+        }
+    }
+
+    /**
+     * Multiplies by the golden ratio to scatter the bits of the key, since masking only keeps the low bits and
+     * sequential keys would otherwise fill runs of adjacent slots.
+     */
+    static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void generateTable(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        // Always leave at least one slot empty so that probing terminates
+        maxSize = Math.min((int) (capacity * maxCapacityThreshold), capacity - 1);
+    }
+
+    private void resize() {
+        int[] oldKeys = keys, oldValues = values;
+        generateTable(oldKeys.length * DEFAULT_RESIZE_FACTOR);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = slotFor(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
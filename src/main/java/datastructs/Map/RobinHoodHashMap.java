@@ -0,0 +1,266 @@
+package datastructs.Map;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Array-based implementation of the {@link Map} interface using open addressing with Robin Hood linear probing.
+ *
+ * Unlike {@link HashMap}, which keeps a LinkedList of {@link Entry} objects per slot, entries are stored directly in
+ * parallel keys / values arrays, along with the hash of each key. There are no per-entry objects, and a lookup walks
+ * adjacent array slots rather than chasing list nodes, so it's both smaller and more cache friendly.
+ *
+ * A key is placed at its home slot (hash & (capacity - 1), the capacity always being a power of two) or the first
+ * free slot after it. The distance from its home slot is its probe length. Robin Hood hashing keeps probe lengths
+ * short and even: while inserting, if we pass an entry that's closer to its home slot than the new key is to its own,
+ * the new key takes the slot and the displaced entry continues probing instead. This gives the table an invariant that
+ * also speeds up misses - a lookup can stop as soon as it reaches an entry that's closer to home than the key would be,
+ * since the key would have displaced it.
+ *
+ * Removal uses backward shifting rather than tombstones. The entries after the removed one are shifted back a slot
+ * until reaching an empty slot or an entry that's already at its home slot, so the table never fills up with deleted
+ * markers and the invariant above still holds.
+ *
+ * The map doubles in size when the number of elements exceeds the maxCapacityThreshold with respect to the capacity.
+ * Since every entry needs its own slot, the threshold must be less than 1. get, put and remove are O(1) on average.
+ */
+public class RobinHoodHashMap<K,V> implements Map<K,V> {
+
+    static final int DEFAULT_CAPACITY = 16;
+    static final int DEFAULT_RESIZE_FACTOR = 2;
+    static final double DEFAULT_CAPACITY_THRESHOLD = .75;
+
+    /**
+     * keys[i], values[i] and hashes[i] describe the entry in slot i. A null key marks an empty slot.
+     */
+    private Object[] keys;
+
+    private Object[] values;
+
+    private int[] hashes;
+
+    /**
+     * capacity - 1, for masking hashes down to a slot.
+     */
+    private int mask;
+
+    private int size;
+
+    private final double maxCapacityThreshold;
+
+    /**
+     * The table is resized once size exceeds this.
+     */
+    private int maxSize;
+
+    @Builder
+    public RobinHoodHashMap(int capacity, double maxCapacityThreshold) {
+        if (capacity <= 0) {
+            capacity = DEFAULT_CAPACITY;
+        }
+        if (maxCapacityThreshold <= 0.0) {
+            maxCapacityThreshold = DEFAULT_CAPACITY_THRESHOLD;
+        } else if (maxCapacityThreshold >= 1.0) {
+            throw new IllegalArgumentException("Max capacity threshold must be less than 1: " + maxCapacityThreshold);
+        }
+        this.maxCapacityThreshold = maxCapacityThreshold;
+        generateTable(tableSizeFor(capacity));
+    }
+
+    @Override
+    public void put(@NonNull K key, @NonNull V value) {
+        if (insert(key, value) && size > maxSize) {
+            resize();
+        }
+    }
+
+    /**
+     * Adds or overwrites the entry without considering resizing, so that resize can reinsert entries through it.
+     *
+     * @return whether a new entry was added
+     */
+    private boolean insert(Object key, Object value) {
+        int hash = hash(key);
+        int slot = hash & mask;
+        for (int distance = 0; ; distance++, slot = (slot + 1) & mask) {
+            if (keys[slot] == null) {
+                set(slot, key, value, hash);
+                break;
+            }
+            if (hashes[slot] == hash && keys[slot].equals(key)) {
+                values[slot] = value;
+                return false;
+            }
+            if (probeLength(slot) < distance) {
+                // The key isn't in the map, since it would have displaced this entry. Take the slot from it.
+                displace(slot, distance, key, value, hash);
+                break;
+            }
+        }
+        size++;
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean remove(K key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        // Shift the following entries back a slot, until one is empty or already at its home slot
+        int next = (slot + 1) & mask;
+        while (keys[next] != null && probeLength(next) > 0) {
+            keys[slot] = keys[next];
+            values[slot] = values[next];
+            hashes[slot] = hashes[next];
+            slot = next;
+            next = (next + 1) & mask;
+        }
+        keys[slot] = null;
+        values[slot] = null;
+        size--;
+        return true;
+    }
+
+    @Override
+    public V get(K key) {
+        int slot = find(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return find(key) >= 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Set<K> keySet() {
+        Set<K> keySet = new HashSet<>();
+        for (Object key : keys) {
+            if (key != null) {
+                keySet.add((K) key);
+            }
+        }
+        return keySet;
+    }
+
+    /**
+     * @return every value in the map, including duplicates.
+     */
+    @Override
+    public List<V> values() {
+        List<V> values = new ArrayList<>(size);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                values.add((V) this.values[i]);
+            }
+        }
+        return values;
+    }
+
+    public int getCapacity() {
+        return keys.length;
+    }
+
+    /**
+     * @return the slot holding the key, or -1 if it isn't in the map.
+     */
+    private int find(K key) {
+        if (key == null) {
+            return -1;
+        }
+        int hash = hash(key);
+        int slot = hash & mask;
+        for (int distance = 0; keys[slot] != null && probeLength(slot) >= distance;
+             distance++, slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && keys[slot].equals(key)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Places the entry in the given slot, which is the given distance from its home slot, and carries the entry that
+     * was there on down the table - displacing any richer entries along the way - until everything has a slot.
+     */
+    private void displace(int slot, int distance, Object key, Object value, int hash) {
+        while (keys[slot] != null) {
+            if (probeLength(slot) < distance) {
+                Object residentKey = keys[slot], residentValue = values[slot];
+                int residentHash = hashes[slot], residentDistance = probeLength(slot);
+                set(slot, key, value, hash);
+                key = residentKey;
+                value = residentValue;
+                hash = residentHash;
+                distance = residentDistance;
+            }
+            slot = (slot + 1) & mask;
+            distance++;
+        }
+        set(slot, key, value, hash);
+    }
+
+    private void set(int slot, Object key, Object value, int hash) {
+        keys[slot] = key;
+        values[slot] = value;
+        hashes[slot] = hash;
+    }
+
+    /**
+     * @return how far the entry in the slot is from its home slot.
+     */
+    private int probeLength(int slot) {
+        return (slot - (hashes[slot] & mask)) & mask;
+    }
+
+    /**
+     * Mixes the high bits of the hash code into the low bits, since masking only keeps the low bits.
+     */
+    private int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @return the smallest power of two that's at least the given capacity.
+     */
+    static int tableSizeFor(int capacity) {
+        return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private void generateTable(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        // Always leave at least one slot empty so that probing terminates
+        maxSize = Math.min((int) (capacity * maxCapacityThreshold), capacity - 1);
+    }
+
+    private void resize() {
+        Object[] oldKeys = keys, oldValues = values;
+        generateTable(oldKeys.length * DEFAULT_RESIZE_FACTOR);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package sorting;
+
+import java.util.Random;
+
+/**
+ * Index sort (argsort) - rather than moving the elements themselves, compute the permutation that would sort them.
+ * The result is an int[] where permutation[i] is the index of the element that belongs at position i in sorted order,
+ * so list[permutation[0]] is the smallest element, list[permutation[1]] the next, and so on. The list is left untouched.
+ *
+ * This is useful when the elements are large or when several parallel arrays (columns) are keyed by the same index:
+ * only 4-byte indices get moved around during the sort, and the same permutation can then be applied to every column
+ * with {@link #apply(int[], Object[])}.
+ *
+ * Two algorithms are provided, both operating on the permutation with comparisons made through it to the keys:
+ * - mergeSort, which is the index version of {@link MergeSort}. It's stable, so equal keys keep their original index
+ *   order, runs in O(nlogn) time and uses an O(n) int buffer.
+ * - quickSort, which is the index version of {@link ThreeWayQuickSort}. It isn't stable but doesn't need a buffer.
+ *   It runs in O(nlogn) time on average, or O(nlogk) for k distinct keys.
+ * Keys can be an E[] or a primitive int[], long[] or double[] array.
+ */
+public class ArgSort {
+
+    /**
+     * Ranges at or below this size are sorted with insertion sort by the merge sort.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 7;
+
+    private Random random;
+
+    public ArgSort(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Compares the keys at two indices of the underlying key array.
+     */
+    interface IndexComparator {
+        int compare(int a, int b);
+    }
+
+    /**
+     * @return the stable sorting permutation of the list.
+     */
+    public <E extends Comparable> int[] mergeSort(E[] list) {
+        int[] permutation = new int[list.length];
+        mergeSort(list, permutation);
+        return permutation;
+    }
+
+    /**
+     * Fills the given array with the stable sorting permutation of the list. Its length must match the list.
+     */
+    public <E extends Comparable> void mergeSort(E[] list, int[] permutation) {
+        checkLength(list.length, permutation);
+        mergeSort(permutation, (a, b) -> list[a].compareTo(list[b]));
+    }
+
+    public int[] mergeSort(int[] keys) {
+        int[] permutation = new int[keys.length];
+        mergeSort(keys, permutation);
+        return permutation;
+    }
+
+    public void mergeSort(int[] keys, int[] permutation) {
+        checkLength(keys.length, permutation);
+        mergeSort(permutation, (a, b) -> Integer.compare(keys[a], keys[b]));
+    }
+
+    public int[] mergeSort(long[] keys) {
+        int[] permutation = new int[keys.length];
+        mergeSort(keys, permutation);
+        return permutation;
+    }
+
+    public void mergeSort(long[] keys, int[] permutation) {
+        checkLength(keys.length, permutation);
+        mergeSort(permutation, (a, b) -> Long.compare(keys[a], keys[b]));
+    }
+
+    public int[] mergeSort(double[] keys) {
+        int[] permutation = new int[keys.length];
+        mergeSort(keys, permutation);
+        return permutation;
+    }
+
+    public void mergeSort(double[] keys, int[] permutation) {
+        checkLength(keys.length, permutation);
+        mergeSort(permutation, (a, b) -> Double.compare(keys[a], keys[b]));
+    }
+
+    /**
+     * @return a sorting permutation of the list. Indices of equal elements may be in any order.
+     */
+    public <E extends Comparable> int[] quickSort(E[] list) {
+        int[] permutation = new int[list.length];
+        quickSort(list, permutation);
+        return permutation;
+    }
+
+    /**
+     * Fills the given array with a sorting permutation of the list. Its length must match the list.
+     */
+    public <E extends Comparable> void quickSort(E[] list, int[] permutation) {
+        checkLength(list.length, permutation);
+        quickSort(permutation, (a, b) -> list[a].compareTo(list[b]));
+    }
+
+    public int[] quickSort(int[] keys) {
+        int[] permutation = new int[keys.length];
+        quickSort(keys, permutation);
+        return permutation;
+    }
+
+    public void quickSort(int[] keys, int[] permutation) {
+        checkLength(keys.length, permutation);
+        quickSort(permutation, (a, b) -> Integer.compare(keys[a], keys[b]));
+    }
+
+    public int[] quickSort(long[] keys) {
+        int[] permutation = new int[keys.length];
+        quickSort(keys, permutation);
+        return permutation;
+    }
+
+    public void quickSort(long[] keys, int[] permutation) {
+        checkLength(keys.length, permutation);
+        quickSort(permutation, (a, b) -> Long.compare(keys[a], keys[b]));
+    }
+
+    public int[] quickSort(double[] keys) {
+        int[] permutation = new int[keys.length];
+        quickSort(keys, permutation);
+        return permutation;
+    }
+
+    public void quickSort(double[] keys, int[] permutation) {
+        checkLength(keys.length, permutation);
+        quickSort(permutation, (a, b) -> Double.compare(keys[a], keys[b]));
+    }
+
+    /**
+     * Reorders a column by the permutation, so that result[i] = column[permutation[i]].
+     *
+     * @return a new array with the reordered column
+     */
+    public <T> T[] apply(int[] permutation, T[] column) {
+        checkLength(column.length, permutation);
+        T[] result = column.clone();
+        for (int i = 0; i < permutation.length; i++) {
+            result[i] = column[permutation[i]];
+        }
+        return result;
+    }
+
+    void mergeSort(int[] permutation, IndexComparator comparator) {
+        identity(permutation);
+        if (permutation.length < 2) {
+            return;
+        }
+        mergeSort(permutation.clone(), permutation, 0, permutation.length - 1, comparator);
+    }
+
+    /**
+     * Sorts the indices in [left, right] so the result ends up in dst, following the same src / dst contract as
+     * {@link MergeSort#sort(Comparable[], Comparable[], int, int)}.
+     */
+    void mergeSort(int[] src, int[] dst, int left, int right, IndexComparator comparator) {
+        if (right - left < INSERTION_SORT_THRESHOLD) {
+            insertionSort(dst, left, right, comparator);
+            return;
+        }
+        int mid = left + (right - left) / 2;
+        mergeSort(dst, src, left, mid, comparator);
+        mergeSort(dst, src, mid + 1, right, comparator);
+
+        if (comparator.compare(src[mid], src[mid + 1]) <= 0) {
+            System.arraycopy(src, left, dst, left, right - left + 1);
+            return;
+        }
+        int l = left, r = mid + 1;
+        for (int i = left; i <= right; i++) {
+            // Take from the left half on ties so that the sort is stable
+            if (r > right || (l <= mid && comparator.compare(src[l], src[r]) <= 0)) {
+                dst[i] = src[l++];
+            } else {
+                dst[i] = src[r++];
+            }
+        }
+    }
+
+    void insertionSort(int[] permutation, int left, int right, IndexComparator comparator) {
+        for (int i = left + 1; i <= right; i++) {
+            int val = permutation[i];
+            int j = i - 1;
+            while (j >= left && comparator.compare(permutation[j], val) > 0) {
+                permutation[j + 1] = permutation[j];
+                j--;
+            }
+            permutation[j + 1] = val;
+        }
+    }
+
+    void quickSort(int[] permutation, IndexComparator comparator) {
+        identity(permutation);
+        quickSort(permutation, 0, permutation.length - 1, comparator);
+    }
+
+    /**
+     * Three-way partitions the indices in [left, right] around a random pivot and sorts the strictly smaller and
+     * strictly larger ranges - see {@link ThreeWayQuickSort#partition}.
+     */
+    void quickSort(int[] permutation, int left, int right, IndexComparator comparator) {
+        if (left >= right) {
+            return;
+        }
+        int pivot = permutation[left + random.nextInt(right - left)];
+        int lt = left, i = left, gt = right;
+        while (i <= gt) {
+            int compareVal = comparator.compare(permutation[i], pivot);
+            if (compareVal < 0) {
+                swap(permutation, lt++, i++);
+            } else if (compareVal > 0) {
+                swap(permutation, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        quickSort(permutation, left, lt - 1, comparator);
+        quickSort(permutation, gt + 1, right, comparator);
+    }
+
+    void identity(int[] permutation) {
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = i;
+        }
+    }
+
+    void checkLength(int length, int[] permutation) {
+        if (permutation.length != length) {
+            throw new IllegalArgumentException(
+                    "Permutation length " + permutation.length + " doesn't match length " + length);
+        }
+    }
+
+    void swap(int[] arr, int a, int b) {
+        int temp = arr[a];
+        arr[a] = arr[b];
+        arr[b] = temp;
+    }
+}
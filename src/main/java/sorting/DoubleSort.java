@@ -0,0 +1,171 @@
+package sorting;
+
+import java.util.Random;
+
+/**
+ * {@link MergeSort}, {@link QuickSort} and {@link QuickSelect} specialized for double[] arrays.
+ *
+ * The generic sorts only work on boxed Double[] arrays, which store a reference per element on top of the Double
+ * objects themselves, and call compareTo through a virtual call on every comparison. Working on the primitive array
+ * directly avoids both - the elements are stored contiguously and compared without any indirection.
+ *
+ * The algorithms and their complexities are the same as their generic counterparts:
+ * - {@link #mergeSort(double[])} is O(nlogn) and uses an O(n) buffer, which can be supplied by the caller.
+ * - {@link #quickSort(double[])} is O(nlogn) on average and O(n^2) in the worst case.
+ * - {@link #select(double[], int)} is O(n) on average and O(n^2) in the worst case.
+ * Stability doesn't matter for primitives since equal values can't be told apart.
+ *
+ * Values are compared with {@link Double#compare(double, double)} to match the ordering of {@link Double#compareTo}:
+ * -0.0 sorts before 0.0, and NaN sorts after every other value including positive infinity.
+ */
+public class DoubleSort {
+
+    /**
+     * Ranges at or below this size are sorted with insertion sort by {@link #mergeSort(double[])}.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 7;
+
+    private Random random;
+
+    public DoubleSort(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Sorts the list with merge sort, allocating a single buffer for the sort.
+     */
+    public void mergeSort(double[] list) {
+        if (list.length < 2) {
+            return;
+        }
+        mergeSort(list.clone(), list, 0, list.length - 1);
+    }
+
+    /**
+     * Sorts the list with merge sort using the given buffer as scratch space. The buffer must be at least as long as
+     * the list and its contents will be overwritten.
+     */
+    public void mergeSort(double[] list, double[] buffer) {
+        if (buffer.length < list.length) {
+            throw new IllegalArgumentException(
+                    "Buffer length " + buffer.length + " is smaller than list length " + list.length);
+        }
+        System.arraycopy(list, 0, buffer, 0, list.length);
+        mergeSort(buffer, list, 0, list.length - 1);
+    }
+
+    /**
+     * Sorts the range [left, right] so that the sorted output ends up in dst. Both src and dst must hold the same
+     * elements in [left, right] beforehand - see {@link MergeSort#sort(Comparable[], Comparable[], int, int)}.
+     */
+    void mergeSort(double[] src, double[] dst, int left, int right) {
+        if (right - left < INSERTION_SORT_THRESHOLD) {
+            insertionSort(dst, left, right);
+            return;
+        }
+        int mid = left + (right - left) / 2;
+        mergeSort(dst, src, left, mid);
+        mergeSort(dst, src, mid + 1, right);
+        merge(src, dst, left, mid, right);
+    }
+
+    /**
+     * Merges the sorted sub-arrays src[left, mid] and src[mid + 1, right] into dst[left, right].
+     */
+    void merge(double[] src, double[] dst, int left, int mid, int right) {
+        if (Double.compare(src[mid], src[mid + 1]) <= 0) {
+            System.arraycopy(src, left, dst, left, right - left + 1);
+            return;
+        }
+        int l = left, r = mid + 1;
+        for (int i = left; i <= right; i++) {
+            if (r > right || (l <= mid && Double.compare(src[l], src[r]) <= 0)) {
+                dst[i] = src[l++];
+            } else {
+                dst[i] = src[r++];
+            }
+        }
+    }
+
+    /**
+     * Sorts the range [left, right] with insertion sort.
+     */
+    void insertionSort(double[] list, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            double val = list[i];
+            int j = i - 1;
+            while (j >= left && Double.compare(list[j], val) > 0) {
+                list[j + 1] = list[j];
+                j--;
+            }
+            list[j + 1] = val;
+        }
+    }
+
+    /**
+     * Sorts the list with quick sort.
+     */
+    public void quickSort(double[] list) {
+        quickSort(list, 0, list.length - 1);
+    }
+
+    void quickSort(double[] list, int left, int right) {
+        if (left >= right) {
+            return; // No sorting required for a single element
+        }
+        int pivot = partition(list, left, right);
+        quickSort(list, left, pivot - 1);
+        quickSort(list, pivot + 1, right);
+    }
+
+    /**
+     * Select the kth smallest element (0-indexed) using the QuickSelect algorithm. The list is partially reordered.
+     */
+    public double select(double[] list, int k) {
+        int pivot = -1, left = 0, right = list.length - 1;
+        while (pivot != k) {
+            pivot = partition(list, left, right);
+            if (pivot < k) {
+                left = pivot + 1;
+            } else if (pivot > k) {
+                right = pivot - 1;
+            }
+        }
+        return list[k];
+    }
+
+    /**
+     * Selects a random pivot element and moves it to its correct spot in the range [left, right], such that elements
+     * to its left are less than it and elements to its right are greater than or equal to it. Same branch-free loop
+     * as {@link IntSort#partition}, except elements are compared with Double.compare rather than <, so that -0.0 and
+     * NaN are placed consistently with the class's ordering even when one of them is the pivot.
+     *
+     * @return the pivot index
+     */
+    int partition(double[] list, int left, int right) {
+        if (left == right) {
+            return left; // Nothing to partition. Also nextInt doesn't like when the bound is 0.
+        }
+        swap(list, left, left + random.nextInt(right - left)); // Generate random offset [0, right - left)
+        double pivotVal = list[left];
+        // [left + 1, boundary) holds the elements < pivotVal and [boundary, i) the elements >= pivotVal
+        int boundary = left + 1;
+        for (int i = left + 1; i <= right; i++) {
+            double val = list[i];
+            list[i] = list[boundary];
+            list[boundary] = val;
+            boundary += Double.compare(val, pivotVal) < 0 ? 1 : 0;
+        }
+        swap(list, left, boundary - 1);
+        return boundary - 1;
+    }
+
+    /**
+     * Swaps the elements at indices a and b.
+     */
+    void swap(double[] list, int a, int b) {
+        double temp = list[a];
+        list[a] = list[b];
+        list[b] = temp;
+    }
+}
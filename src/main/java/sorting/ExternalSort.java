@@ -0,0 +1,268 @@
+package sorting;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * External merge sort for datasets that don't fit in memory. The high-level algorithm:
+ * 1. Run generation - read records until the memory budget is used up, sort that chunk in memory with the configured
+ *    {@link Sort}, and spill it to a temporary file as a sorted run. Repeat until the input is exhausted.
+ * 2. Merge passes - while there are more runs than the fan-in, merge groups of fan-in runs into longer runs.
+ * 3. Final merge - merge the remaining runs directly into the output file.
+ * Merges are k-way and driven by a {@link LoserTree}, so only one record per run is held in memory at a time.
+ *
+ * With n records, a budget of m records and a fan-in of k, there are about n / m initial runs and
+ * log_k(n / m) merge passes. Each pass reads and writes every record once, so the I/O is O(n log_k(n / m)) and the
+ * comparisons are O(n log n). Heap usage is bounded by the memory budget plus one I/O buffer per open run.
+ *
+ * Records are read and written through a {@link RecordCodec}. The input file is expected to be a sequence of records
+ * in the codec's format, and the output file is written in the same format. Run files are read and written
+ * sequentially through buffered {@link FileChannel} streams, and are deleted once they've been merged.
+ *
+ * The sort is stable as long as the configured in-memory sort is stable, since runs are always merged in the order
+ * they were created.
+ */
+public class ExternalSort<E extends Comparable> {
+
+    static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+    static final int DEFAULT_FAN_IN = 64;
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final RecordCodec<E> codec;
+
+    private final Sort<E> sorter;
+
+    /**
+     * Approximate number of bytes of records to hold in memory at once during run generation, as measured by
+     * {@link RecordCodec#sizeOf}.
+     */
+    private final long memoryBudget;
+
+    /**
+     * Maximum number of runs merged at once. Each open run needs its own I/O buffer.
+     */
+    private final int fanIn;
+
+    /**
+     * Size of the I/O buffer for each file that's open for reading or writing.
+     */
+    private final int bufferSize;
+
+    /**
+     * Directory for temporary run files. Defaults to the system temp directory.
+     */
+    private final Path tempDirectory;
+
+    @Builder
+    public ExternalSort(@NonNull RecordCodec<E> codec, Sort<E> sorter, long memoryBudget, int fanIn, int bufferSize,
+                        Path tempDirectory) {
+        if (sorter == null) {
+            sorter = new MergeSort<>();
+        }
+        if (memoryBudget <= 0) {
+            memoryBudget = DEFAULT_MEMORY_BUDGET;
+        }
+        if (fanIn <= 0) {
+            fanIn = DEFAULT_FAN_IN;
+        } else if (fanIn < 2) {
+            throw new IllegalArgumentException("Fan-in must be at least 2: " + fanIn);
+        }
+        if (bufferSize <= 0) {
+            bufferSize = DEFAULT_BUFFER_SIZE;
+        }
+        if (tempDirectory == null) {
+            tempDirectory = Path.of(System.getProperty("java.io.tmpdir"));
+        }
+        this.codec = codec;
+        this.sorter = sorter;
+        this.memoryBudget = memoryBudget;
+        this.fanIn = fanIn;
+        this.bufferSize = bufferSize;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Sorts the records in the input file and writes them to the output file.
+     */
+    public void sort(Path input, Path output) throws IOException {
+        try (RecordReader reader = new RecordReader(input)) {
+            sort(reader, output);
+        }
+    }
+
+    /**
+     * Sorts the records from the input iterator and writes them to the output file.
+     */
+    public void sort(Iterator<E> input, Path output) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        try {
+            try {
+                generateRuns(input, runs);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            while (runs.size() > fanIn) {
+                runs = mergePass(runs);
+            }
+            merge(runs, output);
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * Reads the input in chunks that fit in the memory budget, and spills each chunk as a sorted run.
+     */
+    void generateRuns(Iterator<E> input, List<Path> runs) throws IOException {
+        List<E> chunk = new ArrayList<>();
+        long chunkSize = 0;
+        while (input.hasNext()) {
+            E record = input.next();
+            chunk.add(record);
+            chunkSize += codec.sizeOf(record);
+            if (chunkSize >= memoryBudget) {
+                runs.add(spill(chunk));
+                chunk.clear();
+                chunkSize = 0;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            runs.add(spill(chunk));
+        }
+    }
+
+    /**
+     * Sorts the chunk in memory and writes it to a new temporary run file.
+     */
+    Path spill(List<E> chunk) throws IOException {
+        E[] records = (E[]) chunk.toArray(new Comparable[0]);
+        sorter.sort(records);
+        Path run = Files.createTempFile(tempDirectory, "run-", ".tmp");
+        // The run isn't in the caller's list of runs yet, so it has to be cleaned up here if writing it fails
+        try (DataOutputStream out = openWriter(run)) {
+            for (E record : records) {
+                codec.write(record, out);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(run);
+            throw e;
+        }
+        return run;
+    }
+
+    /**
+     * Merges the runs in consecutive groups of fanIn into a new list of runs, deleting the merged runs.
+     */
+    List<Path> mergePass(List<Path> runs) throws IOException {
+        List<Path> merged = new ArrayList<>();
+        try {
+            for (int i = 0; i < runs.size(); i += fanIn) {
+                List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+                Path run = Files.createTempFile(tempDirectory, "run-", ".tmp");
+                merged.add(run);
+                merge(group, run);
+                for (Path groupRun : group) {
+                    Files.delete(groupRun);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            for (Path run : merged) {
+                Files.deleteIfExists(run);
+            }
+            throw e;
+        }
+        return merged;
+    }
+
+    /**
+     * k-way merges the sorted runs into the output file.
+     */
+    void merge(List<Path> runs, Path output) throws IOException {
+        List<RecordReader> readers = new ArrayList<>();
+        try (DataOutputStream out = openWriter(output)) {
+            for (Path run : runs) {
+                readers.add(new RecordReader(run));
+            }
+            LoserTree<E> tree = new LoserTree<>(readers);
+            while (tree.hasNext()) {
+                codec.write(tree.next(), out);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            for (RecordReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private DataOutputStream openWriter(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        return new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), bufferSize));
+    }
+
+    /**
+     * Reads records from a file one at a time. Since the codec has no end marker, the end of the file is detected by
+     * peeking for another byte before each record.
+     *
+     * Errors are rethrown as {@link UncheckedIOException} to fit the {@link Iterator} interface.
+     */
+    private class RecordReader implements Iterator<E>, AutoCloseable {
+        private final BufferedInputStream buffered;
+        private final DataInputStream in;
+
+        RecordReader(Path path) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buffered = new BufferedInputStream(Channels.newInputStream(channel), bufferSize);
+            this.in = new DataInputStream(buffered);
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                buffered.mark(1);
+                boolean hasNext = buffered.read() != -1;
+                buffered.reset();
+                return hasNext;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return codec.read(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package sorting;
+
+import java.util.Objects;
+
+/**
+ * HeapSort implementation based on the high-level algorithm:
+ * 1. Heapify - rearrange the list into a max heap in place, where the element at index i is greater than or equal to
+ *    its children at indices 2i + 1 and 2i + 2.
+ * 2. Repeatedly swap the root (the largest remaining element) to the end of the unsorted range, shrink the range by 1
+ *    and sift the new root down to restore the heap property.
+ *
+ * Heapify is O(n) since most nodes are near the bottom of the heap and only sift down a few levels. Each of the n
+ * removals sifts down at most log(n) levels, so the time complexity is O(nlogn) in the best, average and worst case.
+ * Everything happens in place, so the space complexity is O(1).
+ *
+ * HeapSort isn't stable and has poor cache locality compared to QuickSort, so it's mostly useful as a fallback when
+ * a guaranteed worst case is needed - see {@link IntroSort}.
+ */
+public class HeapSort<E extends Comparable> implements Sort<E> {
+
+    @Override
+    public void sort(E[] list) {
+        sortRange(list, 0, list.length - 1);
+    }
+
+    /**
+     * Sorts the list within the given range [left, right]. Inclusive of both indices.
+     */
+    @Override
+    public void sort(E[] list, int left, int right) {
+        Objects.checkFromToIndex(left, right + 1, list.length);
+        sortRange(list, left, right);
+    }
+
+    /**
+     * The heap is laid out relative to left, so the node at index left + i has children at left + 2i + 1 and left + 2i + 2.
+     */
+    void sortRange(E[] list, int left, int right) {
+        int size = right - left + 1;
+        // Leaves are already valid heaps, so start from the last parent and sift down to the root
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(list, left, i, size);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(list, left, left + end);
+            siftDown(list, left, 0, end);
+        }
+    }
+
+    /**
+     * Moves the node at heap index i down until neither of its children are larger than it.
+     * Only the first size nodes of the heap starting at offset are considered.
+     */
+    void siftDown(E[] list, int offset, int i, int size) {
+        E val = list[offset + i];
+        int child;
+        while ((child = 2 * i + 1) < size) {
+            // Pick the larger of the two children
+            if (child + 1 < size && list[offset + child].compareTo(list[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (val.compareTo(list[offset + child]) >= 0) {
+                break;
+            }
+            list[offset + i] = list[offset + child];
+            i = child;
+        }
+        list[offset + i] = val;
+    }
+
+    /**
+     * Swaps the elements at indices a and b.
+     */
+    void swap(E[] list, int a, int b) {
+        E temp = list[a];
+        list[a] = list[b];
+        list[b] = temp;
+    }
+}
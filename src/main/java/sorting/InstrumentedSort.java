@@ -0,0 +1,75 @@
+package sorting;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+
+/**
+ * Decorator that measures each sort made through it and records the result in a {@link SortStats}, e.g. for
+ * comparing algorithms on the same workload:
+ *
+ *     InstrumentedSort<Integer> sort = new InstrumentedSort<>(probe -> new QuickSort<>(random, probe));
+ *     sort.sort(list);
+ *     SortStats stats = sort.getLastStats();
+ *
+ * The factory is handed a fresh SortStats as the probe for every sort, so sorts that accept a {@link SortProbe}
+ * (MergeSort and QuickSort) report comparisons, swaps, moves, recursion depth and partition balance. Any other sort
+ * can be wrapped by ignoring the probe, in which case only the time and allocations are measured.
+ *
+ * {@link QuickSelect} accepts a probe too, but isn't a Sort, so it's measured by passing a SortStats to its constructor
+ * directly. Its select and introSelect then report comparisons, swaps and partition balance, along with the recursion
+ * depth of introSelect's median-of-medians fallback.
+ *
+ * Wall time is measured with {@link System#nanoTime}. Allocated bytes are read from the JVM's per-thread allocation
+ * counter where it's supported, so only allocations made by the calling thread are counted - work that a sort hands
+ * off to other threads (e.g. {@link ParallelMergeSort}) isn't included.
+ *
+ * Sorts that aren't wrapped pay nothing for any of this: their probe is {@link SortProbe#NONE}.
+ */
+public class InstrumentedSort<E extends Comparable> implements Sort<E> {
+
+    private final Function<SortProbe, Sort<E>> factory;
+
+    private SortStats lastStats;
+
+    public InstrumentedSort(Function<SortProbe, Sort<E>> factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public void sort(E[] list) {
+        sort(list, 0, list.length - 1);
+    }
+
+    @Override
+    public void sort(E[] list, int left, int right) {
+        SortStats stats = new SortStats();
+        Sort<E> sorter = factory.apply(stats);
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        sorter.sort(list, left, right);
+        stats.setWallTimeNanos(System.nanoTime() - start);
+        long bytesAfter = allocatedBytes();
+        if (bytesBefore >= 0 && bytesAfter >= 0) {
+            stats.setBytesAllocated(bytesAfter - bytesBefore);
+        }
+        lastStats = stats;
+    }
+
+    /**
+     * @return the stats of the most recent sort, or null if nothing has been sorted yet.
+     */
+    public SortStats getLastStats() {
+        return lastStats;
+    }
+
+    /**
+     * @return the number of bytes the current thread has allocated so far, or -1 if the JVM can't measure it.
+     */
+    static long allocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
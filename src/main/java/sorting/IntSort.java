@@ -0,0 +1,178 @@
+package sorting;
+
+import java.util.Random;
+
+/**
+ * {@link MergeSort}, {@link QuickSort} and {@link QuickSelect} specialized for int[] arrays.
+ *
+ * The generic sorts only work on boxed Integer[] arrays, which store a reference per element on top of the Integer
+ * objects themselves, and call compareTo through a virtual call on every comparison. Working on the primitive array
+ * directly avoids both - the elements are stored contiguously and compared without any indirection.
+ *
+ * The algorithms and their complexities are the same as their generic counterparts:
+ * - {@link #mergeSort(int[])} is O(nlogn) and uses an O(n) buffer, which can be supplied by the caller.
+ * - {@link #quickSort(int[])} is O(nlogn) on average and O(n^2) in the worst case.
+ * - {@link #select(int[], int)} is O(n) on average and O(n^2) in the worst case.
+ * Stability doesn't matter for primitives since equal values can't be told apart.
+ *
+ * quickSort and select share a branch-free partition - see {@link #partition}. It's written as a scalar loop rather
+ * than with the Vector API, since that's still an incubator module in Java 17, and every program using these classes
+ * would need to be started with --add-modules jdk.incubator.vector. {@link LongSort} and {@link DoubleSort} use the same
+ * partition.
+ */
+public class IntSort {
+
+    /**
+     * Ranges at or below this size are sorted with insertion sort by {@link #mergeSort(int[])}.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 7;
+
+    private Random random;
+
+    public IntSort(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Sorts the list with merge sort, allocating a single buffer for the sort.
+     */
+    public void mergeSort(int[] list) {
+        if (list.length < 2) {
+            return;
+        }
+        mergeSort(list.clone(), list, 0, list.length - 1);
+    }
+
+    /**
+     * Sorts the list with merge sort using the given buffer as scratch space. The buffer must be at least as long as
+     * the list and its contents will be overwritten.
+     */
+    public void mergeSort(int[] list, int[] buffer) {
+        if (buffer.length < list.length) {
+            throw new IllegalArgumentException(
+                    "Buffer length " + buffer.length + " is smaller than list length " + list.length);
+        }
+        System.arraycopy(list, 0, buffer, 0, list.length);
+        mergeSort(buffer, list, 0, list.length - 1);
+    }
+
+    /**
+     * Sorts the range [left, right] so that the sorted output ends up in dst. Both src and dst must hold the same
+     * elements in [left, right] beforehand - see {@link MergeSort#sort(Comparable[], Comparable[], int, int)}.
+     */
+    void mergeSort(int[] src, int[] dst, int left, int right) {
+        if (right - left < INSERTION_SORT_THRESHOLD) {
+            insertionSort(dst, left, right);
+            return;
+        }
+        int mid = left + (right - left) / 2;
+        mergeSort(dst, src, left, mid);
+        mergeSort(dst, src, mid + 1, right);
+        merge(src, dst, left, mid, right);
+    }
+
+    /**
+     * Merges the sorted sub-arrays src[left, mid] and src[mid + 1, right] into dst[left, right].
+     */
+    void merge(int[] src, int[] dst, int left, int mid, int right) {
+        if (src[mid] <= src[mid + 1]) {
+            System.arraycopy(src, left, dst, left, right - left + 1);
+            return;
+        }
+        int l = left, r = mid + 1;
+        for (int i = left; i <= right; i++) {
+            if (r > right || (l <= mid && src[l] <= src[r])) {
+                dst[i] = src[l++];
+            } else {
+                dst[i] = src[r++];
+            }
+        }
+    }
+
+    /**
+     * Sorts the range [left, right] with insertion sort.
+     */
+    void insertionSort(int[] list, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            int val = list[i];
+            int j = i - 1;
+            while (j >= left && list[j] > val) {
+                list[j + 1] = list[j];
+                j--;
+            }
+            list[j + 1] = val;
+        }
+    }
+
+    /**
+     * Sorts the list with quick sort.
+     */
+    public void quickSort(int[] list) {
+        quickSort(list, 0, list.length - 1);
+    }
+
+    void quickSort(int[] list, int left, int right) {
+        if (left >= right) {
+            return; // No sorting required for a single element
+        }
+        int pivot = partition(list, left, right);
+        quickSort(list, left, pivot - 1);
+        quickSort(list, pivot + 1, right);
+    }
+
+    /**
+     * Select the kth smallest element (0-indexed) using the QuickSelect algorithm. The list is partially reordered.
+     */
+    public int select(int[] list, int k) {
+        int pivot = -1, left = 0, right = list.length - 1;
+        while (pivot != k) {
+            pivot = partition(list, left, right);
+            if (pivot < k) {
+                left = pivot + 1;
+            } else if (pivot > k) {
+                right = pivot - 1;
+            }
+        }
+        return list[k];
+    }
+
+    /**
+     * Selects a random pivot element and moves it to its correct spot in the range [left, right], such that elements
+     * to its left are less than it and elements to its right are greater than or equal to it.
+     * This is the same partition scheme used by {@link QuickSort} and {@link QuickSelect}.
+     *
+     * The loop is branch-free. Whether an element belongs on the left is random for random input, so a branch on it
+     * is mispredicted about half the time, and each misprediction costs more than the whole loop body. Instead every
+     * element is swapped to the boundary unconditionally, and the boundary only advances (by the 0 or 1 result of the
+     * comparison) if the element is smaller than the pivot. Otherwise the swap just exchanges two elements that both
+     * belong on the right. The JIT compiles the comparison to a conditional move rather than a jump.
+     *
+     * @return the pivot index
+     */
+    int partition(int[] list, int left, int right) {
+        if (left == right) {
+            return left; // Nothing to partition. Also nextInt doesn't like when the bound is 0.
+        }
+        swap(list, left, left + random.nextInt(right - left)); // Generate random offset [0, right - left)
+        int pivotVal = list[left];
+        // [left + 1, boundary) holds the elements < pivotVal and [boundary, i) the elements >= pivotVal
+        int boundary = left + 1;
+        for (int i = left + 1; i <= right; i++) {
+            int val = list[i];
+            list[i] = list[boundary];
+            list[boundary] = val;
+            boundary += val < pivotVal ? 1 : 0;
+        }
+        swap(list, left, boundary - 1);
+        return boundary - 1;
+    }
+
+    /**
+     * Swaps the elements at indices a and b.
+     */
+    void swap(int[] list, int a, int b) {
+        int temp = list[a];
+        list[a] = list[b];
+        list[b] = temp;
+    }
+}
@@ -0,0 +1,169 @@
+package sorting;
+
+import java.util.Objects;
+
+/**
+ * Introspective sort - a {@link QuickSort} that bounds its own worst case. QuickSort is fast on average, but a run of
+ * bad pivots degrades it to O(n^2) time and O(n) recursion depth. IntroSort guards against that with:
+ * 1. Deterministic pivot selection - the median of three elements (first, middle, last), or for larger ranges the
+ *    "ninther", which is the median of three medians of three. This is robust against sorted, reversed and
+ *    mostly-equal inputs without needing a random source.
+ * 2. Recursing only into the smaller side of the partition and looping on the larger side. The smaller side is at
+ *    most half the range, so the recursion depth is O(logn) no matter how the pivots turn out.
+ * 3. A depth limit of 2 * log2(n) partitioning rounds. If a range is still being partitioned after that many rounds,
+ *    the pivots have been consistently bad and the range is handed off to {@link HeapSort}, which is O(nlogn)
+ *    in the worst case.
+ * 4. Insertion sort for tiny ranges, where its low overhead beats partitioning.
+ *
+ * Since each element can only be partitioned 2 * log2(n) times before falling back to HeapSort, the time complexity
+ * is O(nlogn) in the worst case. The space complexity is O(logn) for the recursion stack.
+ * Like QuickSort, IntroSort isn't stable.
+ */
+public class IntroSort<E extends Comparable> implements Sort<E> {
+
+    /**
+     * Ranges at or below this size are sorted with insertion sort.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Ranges above this size use the ninther for pivot selection rather than the median of three.
+     */
+    static final int NINTHER_THRESHOLD = 40;
+
+    private final HeapSort<E> heapSort = new HeapSort<>();
+
+    @Override
+    public void sort(E[] list) {
+        if (list.length < 2) {
+            return;
+        }
+        sort(list, 0, list.length - 1, depthLimit(list.length));
+    }
+
+    /**
+     * Sorts the list within the given range [left, right]. Inclusive of both indices.
+     */
+    @Override
+    public void sort(E[] list, int left, int right) {
+        Objects.checkFromToIndex(left, right + 1, list.length);
+        if (left < right) {
+            sort(list, left, right, depthLimit(right - left + 1));
+        }
+    }
+
+    /**
+     * @return the number of partitioning rounds allowed before falling back to HeapSort: 2 * floor(log2(n)).
+     */
+    static int depthLimit(int n) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(n));
+    }
+
+    /**
+     * Sorts [left, right], allowing at most depth more partitioning rounds before falling back to HeapSort.
+     */
+    void sort(E[] list, int left, int right, int depth) {
+        while (right - left + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depth == 0) {
+                heapSort.sortRange(list, left, right);
+                return;
+            }
+            depth--;
+            int pivot = partition(list, left, right);
+            // Recurse into the smaller side and keep looping on the larger side to bound the stack depth
+            if (pivot - left < right - pivot) {
+                sort(list, left, pivot - 1, depth);
+                left = pivot + 1;
+            } else {
+                sort(list, pivot + 1, right, depth);
+                right = pivot - 1;
+            }
+        }
+        insertionSort(list, left, right);
+    }
+
+    /**
+     * Selects a pivot and moves it to its sorted position within [left, right], such that elements to the left are
+     * less than or equal to it and elements to the right are greater than or equal to it.
+     *
+     * Both scans stop on elements equal to the pivot, so runs of equal elements get split evenly between the two sides
+     * rather than all landing on one side.
+     *
+     * @return the pivot index
+     */
+    int partition(E[] list, int left, int right) {
+        swap(list, left, selectPivot(list, left, right));
+        E pivot = list[left];
+        int i = left, j = right + 1;
+        while (true) {
+            while (list[++i].compareTo(pivot) < 0) {
+                if (i == right) {
+                    break;
+                }
+            }
+            // No bounds check needed here - the pivot at left stops the scan
+            while (pivot.compareTo(list[--j]) < 0) { }
+            if (i >= j) {
+                break;
+            }
+            swap(list, i, j);
+        }
+        swap(list, left, j);
+        return j;
+    }
+
+    /**
+     * @return the index of the median of three or the ninther within [left, right], depending on the size of the range.
+     */
+    int selectPivot(E[] list, int left, int right) {
+        int size = right - left + 1, mid = left + size / 2;
+        if (size <= NINTHER_THRESHOLD) {
+            return medianOfThree(list, left, mid, right);
+        }
+        int step = size / 8;
+        int a = medianOfThree(list, left, left + step, left + 2 * step);
+        int b = medianOfThree(list, mid - step, mid, mid + step);
+        int c = medianOfThree(list, right - 2 * step, right - step, right);
+        return medianOfThree(list, a, b, c);
+    }
+
+    /**
+     * @return whichever of the indices a, b and c holds the median of the three elements.
+     */
+    int medianOfThree(E[] list, int a, int b, int c) {
+        if (list[a].compareTo(list[b]) < 0) {
+            if (list[b].compareTo(list[c]) < 0) {
+                return b;
+            }
+            return list[a].compareTo(list[c]) < 0 ? c : a;
+        }
+        if (list[a].compareTo(list[c]) < 0) {
+            return a;
+        }
+        return list[b].compareTo(list[c]) < 0 ? c : b;
+    }
+
+    /**
+     * Sorts the range [left, right] with insertion sort.
+     */
+    void insertionSort(E[] list, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            E val = list[i];
+            int j = i - 1;
+            while (j >= left && list[j].compareTo(val) > 0) {
+                list[j + 1] = list[j];
+                j--;
+            }
+            list[j + 1] = val;
+        }
+    }
+
+    /**
+     * Swaps the elements at indices a and b.
+     */
+    void swap(E[] list, int a, int b) {
+        E temp = list[a];
+        list[a] = list[b];
+        list[b] = temp;
+    }
+}
@@ -0,0 +1,100 @@
+package sorting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Merges k already sorted arrays or iterators into one sorted sequence, e.g. for combining sorted shards.
+ * {@link MergeSort#merge} only handles two adjacent runs of the same array; this handles any number of separate ones.
+ *
+ * The merge is driven by a {@link LoserTree}, which makes ceil(log2(k)) comparisons per element, so merging n elements
+ * in total is O(n log k) time. It comes in two forms:
+ * - merge, which materializes the result into an array.
+ * - iterator, which is lazy. Elements are pulled from the sources only as the merged output is consumed, so only one
+ *   element per source is held at a time and the sources themselves can be streamed (e.g. read from files).
+ *
+ * The merge is stable: elements that compare equal come out in the order of the sources they came from.
+ * Each source must already be sorted in the order being merged by; this isn't checked.
+ */
+public class KWayMerge<E extends Comparable> {
+
+    /**
+     * @return a new array with the elements of every run in sorted order. Its runtime type is that of the first run.
+     */
+    public E[] merge(List<E[]> runs) {
+        return merge(runs, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Same as {@link #merge(List)}, for runs sorted in the order given by the comparator.
+     */
+    public E[] merge(List<E[]> runs, Comparator<? super E> comparator) {
+        if (runs.isEmpty()) {
+            throw new IllegalArgumentException("There must be at least one run");
+        }
+        E[] output = Arrays.copyOf(runs.get(0), totalLength(runs));
+        merge(runs, output, comparator);
+        return output;
+    }
+
+    /**
+     * Merges the runs into the given output array, whose length must equal the total length of the runs. The output
+     * may not be one of the runs.
+     */
+    public void merge(List<E[]> runs, E[] output) {
+        merge(runs, output, (a, b) -> a.compareTo(b));
+    }
+
+    public void merge(List<E[]> runs, E[] output, Comparator<? super E> comparator) {
+        int length = totalLength(runs);
+        if (output.length != length) {
+            throw new IllegalArgumentException(
+                    "Output length " + output.length + " doesn't match the total run length " + length);
+        }
+        Iterator<E> merged = iterator(toIterators(runs), comparator);
+        for (int i = 0; i < length; i++) {
+            output[i] = merged.next();
+        }
+    }
+
+    /**
+     * @return a lazy iterator over the merged elements of the sorted runs.
+     */
+    public Iterator<E> mergeIterator(List<E[]> runs) {
+        return iterator(toIterators(runs), (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * @return a lazy iterator over the merged elements of the sorted sources. Each source is advanced only when its
+     * current element has been consumed.
+     */
+    public Iterator<E> iterator(List<? extends Iterator<? extends E>> sources) {
+        return iterator(sources, (a, b) -> a.compareTo(b));
+    }
+
+    public Iterator<E> iterator(List<? extends Iterator<? extends E>> sources, Comparator<? super E> comparator) {
+        return new LoserTree<>(sources, comparator);
+    }
+
+    int totalLength(List<E[]> runs) {
+        long length = 0;
+        for (E[] run : runs) {
+            length += run.length;
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Total run length " + length + " is too large for an array");
+        }
+        return (int) length;
+    }
+
+    List<Iterator<E>> toIterators(List<E[]> runs) {
+        List<Iterator<E>> iterators = new ArrayList<>(runs.size());
+        for (E[] run : runs) {
+            iterators.add(Arrays.asList(run).iterator());
+        }
+        return iterators;
+    }
+}
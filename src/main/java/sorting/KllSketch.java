@@ -0,0 +1,234 @@
+package sorting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Streaming approximate quantiles using a KLL sketch (Karnin, Lang and Liberty). Unlike {@link QuickSelect}, which
+ * needs every value in memory at once, the sketch sees each value once and keeps only a bounded sample of them.
+ *
+ * The sketch is a stack of compactors (levels). Every item in level h stands in for 2^h of the original values:
+ * 1. New values are appended to level 0.
+ * 2. When the sketch holds more items than its total capacity, the lowest level that's over its own capacity is
+ *    compacted: its items are sorted, and either the odd or the even positioned ones (chosen at random) are promoted to
+ *    the next level up while the rest are discarded. Each promoted item now carries twice the weight, so the total
+ *    weight stays the same, and the rank of any value shifts by at most 2^h in either direction - randomly up or down.
+ * 3. Levels near the top get capacity k and lower levels shrink geometrically by a factor of 2/3 (down to a minimum
+ *    of 2), so most of the memory goes to the heavy items that matter most.
+ * A quantile query sorts the retained items by value and walks their cumulative weight up to q * n.
+ *
+ * With capacity k, a quantile's rank is off by about 1.65 / k * n with high probability (e.g. about 0.8% for the
+ * default k = 200), independently of n. The sketch keeps O(k) items in memory plus O(log(n / k)) levels.
+ * add is O(1) amortized, and quantile is O(klogk).
+ *
+ * Sketches built from separate streams can be combined with {@link #merge}. The result has the same error guarantee as
+ * if every value had been added to a single sketch, so workers can sketch their own samples and combine them later.
+ */
+public class KllSketch {
+
+    static final int DEFAULT_K = 200;
+    static final int MIN_LEVEL_CAPACITY = 2;
+    static final double CAPACITY_DECAY = 2.0 / 3.0;
+
+    private final int k;
+
+    private final Random random;
+
+    /**
+     * Used to order the retained items by value when answering quantile queries.
+     */
+    private final ArgSort argSort;
+
+    /**
+     * levels.get(h) holds the retained items of weight 2^h.
+     */
+    private final List<Compactor> levels = new ArrayList<>();
+
+    /**
+     * capacities[h] is the capacity of level h. The capacities only change when a level is added, so they're computed
+     * once per level rather than on every add.
+     */
+    private int[] capacities;
+
+    /**
+     * Sum of the capacities.
+     */
+    private int totalCapacity;
+
+    /**
+     * Number of items currently held across all levels.
+     */
+    private int retained;
+
+    /**
+     * Total number of values added (including through merges).
+     */
+    private long n;
+
+    public KllSketch(Random random) {
+        this(DEFAULT_K, random);
+    }
+
+    public KllSketch(int k, Random random) {
+        if (k < MIN_LEVEL_CAPACITY) {
+            throw new IllegalArgumentException("k must be at least " + MIN_LEVEL_CAPACITY + ": " + k);
+        }
+        this.k = k;
+        this.random = random;
+        this.argSort = new ArgSort(random);
+        addLevel();
+    }
+
+    public void add(double value) {
+        levels.get(0).add(value);
+        retained++;
+        n++;
+        if (retained > totalCapacity) {
+            compress();
+        }
+    }
+
+    /**
+     * Folds the other sketch's items into this one level by level, then compacts until back under capacity.
+     * The other sketch is left unchanged.
+     */
+    public void merge(KllSketch other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Can't merge a sketch into itself");
+        }
+        while (levels.size() < other.levels.size()) {
+            addLevel();
+        }
+        for (int h = 0; h < other.levels.size(); h++) {
+            Compactor source = other.levels.get(h);
+            for (int i = 0; i < source.size; i++) {
+                levels.get(h).add(source.items[i]);
+            }
+        }
+        retained += other.retained;
+        n += other.n;
+        compress();
+    }
+
+    /**
+     * @return the approximate value at quantile q in [0, 1], e.g. q = 0.99 for the 99th percentile. This is always one
+     * of the values that was added.
+     */
+    public double quantile(double q) {
+        if (q < 0.0 || q > 1.0) {
+            throw new IllegalArgumentException("Quantile must be within [0, 1]: " + q);
+        }
+        if (n == 0) {
+            throw new IllegalStateException("Sketch is empty");
+        }
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        int index = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            Compactor level = levels.get(h);
+            for (int i = 0; i < level.size; i++) {
+                values[index] = level.items[i];
+                weights[index++] = 1L << h;
+            }
+        }
+
+        // Walk the items in value order until the cumulative weight reaches the target rank
+        int[] order = argSort.mergeSort(values);
+        long target = Math.max(1, (long) Math.ceil(q * n)), cumulative = 0;
+        for (int i : order) {
+            cumulative += weights[i];
+            if (cumulative >= target) {
+                return values[i];
+            }
+        }
+        return values[order[retained - 1]];
+    }
+
+    /**
+     * @return the number of values added to the sketch.
+     */
+    public long count() {
+        return n;
+    }
+
+    /**
+     * @return the number of items currently held in memory.
+     */
+    public int retained() {
+        return retained;
+    }
+
+    /**
+     * Compacts levels from the bottom up until the total number of items fits the total capacity.
+     */
+    void compress() {
+        while (retained > totalCapacity) {
+            for (int h = 0; h < levels.size(); h++) {
+                if (levels.get(h).size >= capacities[h]) {
+                    if (h + 1 == levels.size()) {
+                        addLevel();
+                    }
+                    compact(h);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts level h and promotes every other item to level h + 1. If the level has an odd number of items, the smallest
+     * stays behind so that the promoted items can be paired up evenly.
+     */
+    void compact(int h) {
+        Compactor level = levels.get(h), next = levels.get(h + 1);
+        Arrays.sort(level.items, 0, level.size);
+        int keep = level.size % 2;
+        int offset = random.nextBoolean() ? 1 : 0;
+        int promoted = 0;
+        for (int i = keep + offset; i < level.size; i += 2) {
+            next.add(level.items[i]);
+            promoted++;
+        }
+        retained -= level.size - keep - promoted;
+        level.size = keep;
+    }
+
+    /**
+     * Adds an empty level on top, and recomputes the level capacities since every existing level is now one level
+     * further from the top.
+     */
+    void addLevel() {
+        levels.add(new Compactor());
+        capacities = new int[levels.size()];
+        totalCapacity = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            capacities[h] = capacity(h);
+            totalCapacity += capacities[h];
+        }
+    }
+
+    /**
+     * @return the capacity of level h, which is k for the top level and shrinks by 2/3 for each level below it.
+     */
+    int capacity(int h) {
+        int depth = levels.size() - h - 1;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    /**
+     * Growable buffer of the items retained at a single level.
+     */
+    private static class Compactor {
+        private double[] items = new double[MIN_LEVEL_CAPACITY];
+        private int size;
+
+        void add(double value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package sorting;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Tournament tree that merges k sorted sources into one sorted sequence, exposed as an {@link Iterator}.
+ *
+ * The sources are the leaves of a complete binary tree laid out like a heap: internal nodes are at indices [1, k) and
+ * source i is the leaf at index k + i, so the parent of node j is j / 2. Each internal node remembers the loser of the
+ * match played there, and node 0 holds the overall winner - the source with the smallest current element.
+ *
+ * After the winner's element is taken, only the matches on the path from its leaf to the root need to be replayed,
+ * and each replay compares against the loser stored at that node. That's exactly ceil(log2(k)) comparisons per
+ * element. A binary heap needs up to twice that, since sifting down compares against both children at each level.
+ *
+ * Sources are ordered by their natural ordering, or by a {@link Comparator} if one is given. Ties are won by the
+ * source with the lower index, so the merge is stable with respect to source order.
+ * Exhausted sources lose every match. The time complexity is O(n log k) for n total elements, and the space
+ * complexity is O(k).
+ */
+public class LoserTree<E extends Comparable> implements Iterator<E> {
+
+    private final List<? extends Iterator<? extends E>> sources;
+
+    /**
+     * The current (smallest unconsumed) element of each source.
+     */
+    private final E[] heads;
+
+    private final boolean[] exhausted;
+
+    /**
+     * tree[0] is the index of the winning source, tree[1, k) are the indices of the losers at each internal node.
+     */
+    private final int[] tree;
+
+    private final int k;
+
+    private final Comparator<? super E> comparator;
+
+    public LoserTree(List<? extends Iterator<? extends E>> sources) {
+        this(sources, (a, b) -> a.compareTo(b));
+    }
+
+    /**
+     * Every source must be sorted in the order given by the comparator.
+     */
+    public LoserTree(List<? extends Iterator<? extends E>> sources, Comparator<? super E> comparator) {
+        this.sources = sources;
+        this.comparator = comparator;
+        this.k = sources.size();
+        this.heads = (E[]) new Comparable[k];
+        this.exhausted = new boolean[k];
+        this.tree = new int[Math.max(k, 1)];
+        for (int i = 0; i < k; i++) {
+            advance(i);
+        }
+        build();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return k > 0 && !exhausted[tree[0]];
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int winner = tree[0];
+        E val = heads[winner];
+        advance(winner);
+        replay(winner);
+        return val;
+    }
+
+    /**
+     * Plays every match bottom up to fill in the initial losers. winners[j] is the winner of the subtree rooted at j.
+     */
+    private void build() {
+        if (k == 0) {
+            return;
+        }
+        int[] winners = new int[2 * k];
+        for (int i = 0; i < k; i++) {
+            winners[k + i] = i;
+        }
+        for (int node = k - 1; node >= 1; node--) {
+            int left = winners[2 * node], right = winners[2 * node + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                tree[node] = right;
+            } else {
+                winners[node] = right;
+                tree[node] = left;
+            }
+        }
+        tree[0] = k == 1 ? 0 : winners[1];
+    }
+
+    /**
+     * Replays the matches from the leaf of the given source up to the root after its head has changed.
+     */
+    private void replay(int source) {
+        int winner = source;
+        for (int node = (k + source) / 2; node >= 1; node /= 2) {
+            if (beats(tree[node], winner)) {
+                int temp = tree[node];
+                tree[node] = winner;
+                winner = temp;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * @return whether source a's head should come before source b's head.
+     */
+    private boolean beats(int a, int b) {
+        if (exhausted[a]) {
+            return false;
+        }
+        if (exhausted[b]) {
+            return true;
+        }
+        int compareVal = comparator.compare(heads[a], heads[b]);
+        return compareVal < 0 || (compareVal == 0 && a < b);
+    }
+
+    private void advance(int source) {
+        Iterator<? extends E> it = sources.get(source);
+        if (it.hasNext()) {
+            heads[source] = it.next();
+        } else {
+            heads[source] = null;
+            exhausted[source] = true;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package sorting;
 
-import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * MergeSort implementation based on the high-level algorithm:
@@ -15,70 +19,247 @@ import java.lang.reflect.Array;
  * Since we divide the array into two halves at each level of mergeSort, it takes approximately
  * log2(n) steps to reach the base case. Since the work done at each level is O(n), we can reason that the time
  * complexity is O(nlogn).
- * As an auxillary array is used per level to combine the sorted halves, the space complexity at each level is
- * O(n). But since we only maintain the array temporarily, the overall space complexity is O(n).
+ *
+ * Merging needs an auxiliary array to combine the sorted halves. Rather than allocating new arrays for every merge,
+ * a single buffer of size n is used for the whole sort and each level of the recursion alternates which of the list
+ * and the buffer is the merge destination. The buffer is either allocated once per sort, or passed in by the caller
+ * through {@link #sort(Comparable[], Comparable[])} so it can be reused across sorts with no allocation at all.
+ * Either way the space complexity is O(n).
+ *
+ * Small ranges are sorted with insertion sort instead, which does less work than merging for a handful of elements.
+ *
+ * Besides the natural ordering, the list can be sorted with a {@link Comparator}, or by an int or long key extracted
+ * from each element. Keys are extracted once up front rather than on every comparison.
+ *
+ * A {@link SortProbe} can be passed in to count comparisons, moves and recursion depth - see {@link InstrumentedSort}.
  */
 public class MergeSort<E extends Comparable> implements Sort<E> {
 
+    /**
+     * Ranges at or below this size are sorted with insertion sort.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 7;
+
+    private final SortProbe probe;
+
+    /**
+     * Comparator for the natural ordering, so that the natural and Comparator based sorts can share the same code.
+     * It's only set when the probe needs to count comparisons, otherwise it's null and compareTo is called directly.
+     */
+    private final Comparator<E> naturalOrder;
+
+    public MergeSort() {
+        this(SortProbe.NONE);
+    }
+
+    public MergeSort(SortProbe probe) {
+        this.probe = probe;
+        this.naturalOrder = probe == SortProbe.NONE ? null : SortProbe.instrument((a, b) -> a.compareTo(b), probe);
+    }
+
     @Override
     public void sort(E[] list) {
         sort(list, 0, list.length - 1);
     }
 
     /**
-     * Recursive helper to sort the list within the given range [left, right].
-     * Inclusive of both indices.
+     * Sorts the list using the given buffer as scratch space. The buffer must be at least as long as the list and
+     * its contents will be overwritten. Passing the same buffer to repeated sorts avoids allocating on every call.
+     */
+    public void sort(E[] list, E[] buffer) {
+        if (buffer.length < list.length) {
+            throw new IllegalArgumentException(
+                    "Buffer length " + buffer.length + " is smaller than list length " + list.length);
+        }
+        System.arraycopy(list, 0, buffer, 0, list.length);
+        sort(buffer, list, 0, list.length - 1);
+    }
+
+    /**
+     * Stable sort of the list in the order given by the comparator rather than the natural ordering.
+     */
+    public void sort(E[] list, Comparator<? super E> comparator) {
+        if (list.length < 2) {
+            return;
+        }
+        sort(list.clone(), list, 0, list.length - 1, SortProbe.instrument(comparator, probe));
+    }
+
+    /**
+     * Stable sort of the list by the int key extracted from each element. See {@link #sortByLongKey}.
      */
-     void sort(E[] list, int left, int right) {
+    public void sortByIntKey(E[] list, ToIntFunction<? super E> keyExtractor) {
+        long[] keys = new long[list.length];
+        for (int i = 0; i < list.length; i++) {
+            keys[i] = keyExtractor.applyAsInt(list[i]);
+        }
+        sortByKey(list, keys);
+    }
+
+    /**
+     * Stable sort of the list by the long key extracted from each element. Each key is extracted once into a primitive
+     * array that's sorted alongside the list, so every comparison is a primitive comparison rather than a call to
+     * compareTo or a Comparator.
+     */
+    public void sortByLongKey(E[] list, ToLongFunction<? super E> keyExtractor) {
+        long[] keys = new long[list.length];
+        for (int i = 0; i < list.length; i++) {
+            keys[i] = keyExtractor.applyAsLong(list[i]);
+        }
+        sortByKey(list, keys);
+    }
+
+    /**
+     * Sorts the list within the given range [left, right]. Inclusive of both indices.
+     */
+    @Override
+    public void sort(E[] list, int left, int right) {
+        Objects.checkFromToIndex(left, right + 1, list.length);
         // List has reached length 1, which is our base case
         if (left >= right) {
             return;
         }
-        int mid = left + (right - left) / 2;
-        sort(list, left, mid);
-        sort(list, mid + 1, right);
-        merge(list, left, mid, right);
+        // Only the range needs a scratch copy. Index i of the list maps to index i - left of the buffer.
+        // copyOfRange keeps the runtime type of the array.
+        sort(Arrays.copyOfRange(list, left, right + 1), list, -left, left, right, naturalOrder);
     }
 
     /**
-     * Merges the sorted sub-arrays from [left, mid] and [mid + 1, right]
+     * Sorts the range [left, right] so that the sorted output ends up in dst.
+     * Both src and dst must hold the same elements in [left, right] beforehand. Each half is sorted into src, using dst
+     * as its scratch space, and then the halves are merged back into dst. This way the roles of the two arrays swap
+     * at each level and no copying is needed before a merge.
      */
-    void merge(E[] list, int left, int mid, int right) {
-        // Create copies of the sorted left and right halves
-        E[] leftArr = copyOf(list, left, mid);
-        E[] rightArr = copyOf(list, mid + 1, right);
+    void sort(E[] src, E[] dst, int left, int right) {
+        sort(src, dst, 0, left, right, naturalOrder);
+    }
+
+    void sort(E[] src, E[] dst, int left, int right, Comparator<? super E> comparator) {
+        sort(src, dst, 0, left, right, comparator);
+    }
+
+    void sort(E[] src, E[] dst, int shift, int left, int right) {
+        sort(src, dst, shift, left, right, naturalOrder);
+    }
+
+    /**
+     * Same as {@link #sort(Comparable[], Comparable[], int, int)}, except src may be indexed differently from dst:
+     * dst[i] corresponds to src[i + shift]. This lets a range sort use a buffer that's only as long as the range.
+     */
+    void sort(E[] src, E[] dst, int shift, int left, int right, Comparator<? super E> comparator) {
+        probe.enter();
+        if (right - left < INSERTION_SORT_THRESHOLD) {
+            insertionSort(dst, left, right, comparator);
+        } else {
+            int mid = left + (right - left) / 2;
+            // The roles of the arrays swap, so the shift is reversed
+            sort(dst, src, -shift, left + shift, mid + shift, comparator);
+            sort(dst, src, -shift, mid + 1 + shift, right + shift, comparator);
+            merge(src, dst, shift, left, mid, right, comparator);
+        }
+        probe.exit();
+    }
 
-        // Merge them together in the original list
-        int l = 0, r = 0;
+    /**
+     * Merges the sorted sub-arrays src[left, mid] and src[mid + 1, right] into dst[left, right], where the indices of
+     * src are offset by shift.
+     */
+    void merge(E[] src, E[] dst, int shift, int left, int mid, int right, Comparator<? super E> comparator) {
+        // If the halves are already in order, there's nothing to interleave
+        if (Sort.compare(src[mid + shift], src[mid + 1 + shift], comparator) <= 0) {
+            System.arraycopy(src, left + shift, dst, left, right - left + 1);
+            probe.onMove(right - left + 1);
+            return;
+        }
+
+        int l = left + shift, r = mid + 1 + shift, lHi = mid + shift, rHi = right + shift;
         for (int i = left; i <= right; i++) {
-            // Compare the val at leftArr to the val at rightArr to see which next element we should use
-            int compareTo;
-            if (l >= leftArr.length) {
-                compareTo = 1; // No leftVal left to process
-            } else if (r >= rightArr.length) {
-                compareTo = -1; // No rightVal left to process
+            // Take from the left half on ties so that the sort is stable
+            if (r > rHi || (l <= lHi && Sort.compare(src[l], src[r], comparator) <= 0)) {
+                dst[i] = src[l++];
             } else {
-                // There are still valid leftArr and rightArr elements to process
-                compareTo = leftArr[l].compareTo(rightArr[r]);
+                dst[i] = src[r++];
             }
+        }
+        probe.onMove(right - left + 1);
+    }
 
-            // Take the leftArr as the smaller element
-            if (compareTo <= 0) {
-                list[i] = leftArr[l++];
-            } else {
-                list[i] = rightArr[r++];
+    /**
+     * Sorts the range [left, right] with insertion sort. Only strictly greater elements are shifted, so this is stable.
+     */
+    void insertionSort(E[] list, int left, int right, Comparator<? super E> comparator) {
+        int moves = 0;
+        for (int i = left + 1; i <= right; i++) {
+            E val = list[i];
+            int j = i - 1;
+            while (j >= left && Sort.compare(list[j], val, comparator) > 0) {
+                list[j + 1] = list[j];
+                j--;
             }
+            list[j + 1] = val;
+            moves += i - j;
+        }
+        probe.onMove(moves);
+    }
+
+    /**
+     * Sorts the list by the given keys, where keys[i] is the key of list[i].
+     */
+    void sortByKey(E[] list, long[] keys) {
+        if (list.length < 2) {
+            return;
         }
+        sortByKey(keys.clone(), list.clone(), keys, list, 0, list.length - 1);
     }
 
     /**
-     * Create a copy of the given array within the specified indices (inclusive).
+     * Same as {@link #sort(Comparable[], Comparable[], int, int)}, except every move made to the elements is mirrored in
+     * the keys, and comparisons are made on the keys.
      */
-    E[] copyOf(E[] arr, int start, int end) {
-        E[] copy = (E[]) Array.newInstance(arr[0].getClass(), end - start + 1);
-        for (int i = 0; i < copy.length; i++) {
-            copy[i] = arr[start + i];
+    void sortByKey(long[] srcKeys, E[] src, long[] dstKeys, E[] dst, int left, int right) {
+        probe.enter();
+        if (right - left < INSERTION_SORT_THRESHOLD) {
+            int moves = 0;
+            for (int i = left + 1; i <= right; i++) {
+                long key = dstKeys[i];
+                E val = dst[i];
+                int j = i - 1;
+                while (j >= left && !lessOrEqual(dstKeys[j], key)) {
+                    dstKeys[j + 1] = dstKeys[j];
+                    dst[j + 1] = dst[j];
+                    j--;
+                }
+                dstKeys[j + 1] = key;
+                dst[j + 1] = val;
+                moves += i - j;
+            }
+            probe.onMove(moves);
+            probe.exit();
+            return;
         }
-        return copy;
+        int mid = left + (right - left) / 2;
+        sortByKey(dstKeys, dst, srcKeys, src, left, mid);
+        sortByKey(dstKeys, dst, srcKeys, src, mid + 1, right);
+
+        int l = left, r = mid + 1;
+        for (int i = left; i <= right; i++) {
+            if (r > right || (l <= mid && lessOrEqual(srcKeys[l], srcKeys[r]))) {
+                dstKeys[i] = srcKeys[l];
+                dst[i] = src[l++];
+            } else {
+                dstKeys[i] = srcKeys[r];
+                dst[i] = src[r++];
+            }
+        }
+        probe.onMove(right - left + 1);
+        probe.exit();
+    }
+
+    /**
+     * @return whether a <= b, reporting the comparison to the probe.
+     */
+    private boolean lessOrEqual(long a, long b) {
+        probe.onCompare();
+        return a <= b;
     }
 }
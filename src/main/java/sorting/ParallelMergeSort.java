@@ -0,0 +1,206 @@
+package sorting;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel variant of {@link MergeSort} that runs on a {@link ForkJoinPool}.
+ *
+ * The two halves of a MergeSort are independent of each other until they're merged, so above a size threshold
+ * we sort each half as its own task and let the pool's work-stealing spread them across cores. Ranges below the
+ * threshold fall back to a sequential merge sort since the overhead of forking isn't worth it for small inputs.
+ *
+ * The merge step is parallelized as well. Otherwise the final merge alone is O(n) sequential work, which caps
+ * the speedup no matter how many cores are available. To merge two sorted runs A and B in parallel:
+ * 1. Take the middle element x of the larger run (say A).
+ * 2. Binary search for the split point of x in B.
+ * 3. Everything before the split points in A and B goes before x in the output, everything after goes after, so both
+ *    pairs of sub-runs can be merged independently.
+ * Ties are resolved so that elements from the left run always come before equal elements from the right run, which
+ * keeps the sort stable.
+ *
+ * Like {@link MergeSort}, a single scratch copy of the range being sorted is allocated per sort and each level of the
+ * recursion alternates between the list and the scratch array as the merge destination.
+ *
+ * Work is still O(nlogn). With p cores the span is O(log^3(n)), so in practice throughput scales with p until
+ * memory bandwidth becomes the bottleneck. Space complexity is O(n) for the scratch array.
+ */
+public class ParallelMergeSort<E extends Comparable> implements Sort<E> {
+
+    static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Used to sort ranges that are too small to be worth splitting into tasks.
+     */
+    private final MergeSort<E> sequential = new MergeSort<>();
+
+    /**
+     * Ranges at or below this size are sorted / merged sequentially rather than split into further tasks.
+     */
+    private final int threshold;
+
+    public ParallelMergeSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    public ParallelMergeSort(ForkJoinPool pool, int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void sort(E[] list) {
+        sort(list, 0, list.length - 1);
+    }
+
+    /**
+     * Sorts the list within the given range [left, right]. Inclusive of both indices.
+     */
+    @Override
+    public void sort(E[] list, int left, int right) {
+        Objects.checkFromToIndex(left, right + 1, list.length);
+        if (left >= right) {
+            return;
+        }
+        // The scratch array starts as an exact copy of the range - see SortTask for why this matters. Index i of the
+        // list maps to index i - left of the scratch array.
+        E[] scratch = Arrays.copyOfRange(list, left, right + 1);
+        pool.invoke(new SortTask(scratch, list, -left, left, right + 1));
+    }
+
+    /**
+     * Sorts the range [lo, hi) of dst so that the sorted output ends up in dst, where dst[i] corresponds to
+     * src[i + shift]. Both arrays must hold the same elements in the range beforehand. The halves are sorted into src
+     * (using dst as their scratch space), and then merged back into dst.
+     */
+    @SuppressWarnings("serial")
+    private class SortTask extends RecursiveAction {
+        private final E[] src, dst;
+        private final int shift, lo, hi;
+
+        SortTask(E[] src, E[] dst, int shift, int lo, int hi) {
+            this.src = src;
+            this.dst = dst;
+            this.shift = shift;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= threshold) {
+                // Same src / dst contract, except MergeSort uses inclusive ranges
+                sequential.sort(src, dst, shift, lo, hi - 1);
+                return;
+            }
+            int mid = lo + (hi - lo) / 2;
+            // Note the swapped src / dst - the sorted halves end up in src, so the shift is reversed
+            invokeAll(new SortTask(dst, src, -shift, lo + shift, mid + shift),
+                    new SortTask(dst, src, -shift, mid + shift, hi + shift));
+            new MergeTask(src, dst, lo + shift, mid + shift, mid + shift, hi + shift, lo).compute();
+        }
+    }
+
+    /**
+     * Merges the sorted runs src[leftLo, leftHi) and src[rightLo, rightHi) into dst starting at index dstLo.
+     * The left run must precede the right run in the original list for the merge to be stable.
+     */
+    @SuppressWarnings("serial")
+    private class MergeTask extends RecursiveAction {
+        private final E[] src, dst;
+        private final int leftLo, leftHi, rightLo, rightHi, dstLo;
+
+        MergeTask(E[] src, E[] dst, int leftLo, int leftHi, int rightLo, int rightHi, int dstLo) {
+            this.src = src;
+            this.dst = dst;
+            this.leftLo = leftLo;
+            this.leftHi = leftHi;
+            this.rightLo = rightLo;
+            this.rightHi = rightHi;
+            this.dstLo = dstLo;
+        }
+
+        @Override
+        protected void compute() {
+            int leftLength = leftHi - leftLo, rightLength = rightHi - rightLo;
+            // Two single elements can't be split any further - the split below would hand the whole range to one of
+            // the subtasks, which only matters with a threshold of 1.
+            if (leftLength + rightLength <= Math.max(threshold, 2) || leftLength == 0 || rightLength == 0) {
+                merge(src, dst, leftLo, leftHi, rightLo, rightHi, dstLo);
+                return;
+            }
+
+            int leftSplit, rightSplit;
+            if (leftLength >= rightLength) {
+                // Split on the middle of the left run. Right elements equal to the split value must go after it.
+                leftSplit = leftLo + leftLength / 2;
+                rightSplit = lowerBound(src, rightLo, rightHi, src[leftSplit]);
+            } else {
+                // Split on the middle of the right run. Left elements equal to the split value must go before it.
+                rightSplit = rightLo + rightLength / 2;
+                leftSplit = upperBound(src, leftLo, leftHi, src[rightSplit]);
+            }
+            int dstSplit = dstLo + (leftSplit - leftLo) + (rightSplit - rightLo);
+            invokeAll(new MergeTask(src, dst, leftLo, leftSplit, rightLo, rightSplit, dstLo),
+                    new MergeTask(src, dst, leftSplit, leftHi, rightSplit, rightHi, dstSplit));
+        }
+    }
+
+    /**
+     * Merges the sorted runs src[leftLo, leftHi) and src[rightLo, rightHi) into dst starting at dstLo.
+     * Takes from the left run on ties to keep the sort stable.
+     */
+    void merge(E[] src, E[] dst, int leftLo, int leftHi, int rightLo, int rightHi, int dstLo) {
+        int l = leftLo, r = rightLo, i = dstLo;
+        while (l < leftHi && r < rightHi) {
+            if (src[l].compareTo(src[r]) <= 0) {
+                dst[i++] = src[l++];
+            } else {
+                dst[i++] = src[r++];
+            }
+        }
+        while (l < leftHi) {
+            dst[i++] = src[l++];
+        }
+        while (r < rightHi) {
+            dst[i++] = src[r++];
+        }
+    }
+
+    /**
+     * @return the first index in the sorted range [lo, hi) whose element is >= key, or hi if there is none.
+     */
+    int lowerBound(E[] list, int lo, int hi, E key) {
+        while (lo < hi) {
+            int mid = lo + (hi - lo) / 2;
+            if (list[mid].compareTo(key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * @return the first index in the sorted range [lo, hi) whose element is > key, or hi if there is none.
+     */
+    int upperBound(E[] list, int lo, int hi, E key) {
+        while (lo < hi) {
+            int mid = lo + (hi - lo) / 2;
+            if (list[mid].compareTo(key) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,152 @@
+package sorting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Parallel in-place variant of {@link QuickSort} that runs on a {@link ForkJoinPool}.
+ *
+ * Once a range has been partitioned, the two sides never touch each other again, so they can be sorted by different
+ * threads. Above a size threshold, the larger side is forked as its own task for the pool's work-stealing to pick up,
+ * and the current thread carries on partitioning the smaller side. Ranges below the threshold are sorted sequentially
+ * since the overhead of forking isn't worth it for small inputs.
+ *
+ * Unlike {@link ParallelMergeSort}, no buffer is needed - the sort is in place and only O(logn) stack space is used per
+ * thread, since the sequential path recurses into the smaller side and loops on the larger side.
+ *
+ * Pivots are chosen with {@link ThreadLocalRandom} instead of a shared {@link java.util.Random}. A shared Random
+ * updates its seed with a compare-and-set on every call, which becomes a point of contention once many threads are
+ * partitioning at the same time.
+ *
+ * Partitions are three-way as in {@link ThreeWayQuickSort}, so duplicate-heavy inputs don't degrade to O(n^2).
+ * The work is O(nlogn) on average, the same as QuickSort. Like QuickSort, the sort isn't stable.
+ */
+public class ParallelQuickSort<E extends Comparable> implements Sort<E> {
+
+    static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Ranges at or below this size are sorted sequentially rather than split into further tasks.
+     */
+    private final int threshold;
+
+    public ParallelQuickSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    public ParallelQuickSort(ForkJoinPool pool, int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void sort(E[] arr) {
+        sort(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the array within the given range [left, right]. Inclusive of both indices.
+     */
+    @Override
+    public void sort(E[] arr, int left, int right) {
+        Objects.checkFromToIndex(left, right + 1, arr.length);
+        if (left >= right) {
+            return;
+        }
+        pool.invoke(new SortTask(arr, left, right));
+    }
+
+    /**
+     * Sorts the range [left, right], forking off the larger side of each partition while the range is above the
+     * threshold.
+     */
+    @SuppressWarnings("serial")
+    private class SortTask extends RecursiveAction {
+        private final E[] arr;
+        private final int left, right;
+
+        SortTask(E[] arr, int left, int right) {
+            this.arr = arr;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        protected void compute() {
+            List<SortTask> forked = new ArrayList<>();
+            int left = this.left, right = this.right;
+            while (right - left + 1 > threshold) {
+                int[] bounds = partition(arr, left, right);
+                SortTask larger;
+                if (bounds[0] - left > right - bounds[1]) {
+                    larger = new SortTask(arr, left, bounds[0] - 1);
+                    left = bounds[1] + 1;
+                } else {
+                    larger = new SortTask(arr, bounds[1] + 1, right);
+                    right = bounds[0] - 1;
+                }
+                larger.fork();
+                forked.add(larger);
+            }
+            sequentialSort(arr, left, right);
+            for (SortTask task : forked) {
+                task.join();
+            }
+        }
+    }
+
+    /**
+     * Sorts [left, right] on the current thread, recursing into the smaller side to bound the stack depth.
+     */
+    void sequentialSort(E[] arr, int left, int right) {
+        while (left < right) {
+            int[] bounds = partition(arr, left, right);
+            if (bounds[0] - left < right - bounds[1]) {
+                sequentialSort(arr, left, bounds[0] - 1);
+                left = bounds[1] + 1;
+            } else {
+                sequentialSort(arr, bounds[1] + 1, right);
+                right = bounds[0] - 1;
+            }
+        }
+    }
+
+    /**
+     * Three-way partitions [left, right] around a random pivot - see {@link ThreeWayQuickSort#partition}.
+     *
+     * @return the inclusive bounds {lt, gt} of the range of elements equal to the pivot
+     */
+    int[] partition(E[] arr, int left, int right) {
+        E pivot = arr[ThreadLocalRandom.current().nextInt(left, right + 1)];
+        int lt = left, i = left, gt = right;
+        while (i <= gt) {
+            int compareVal = arr[i].compareTo(pivot);
+            if (compareVal < 0) {
+                swap(arr, lt++, i++);
+            } else if (compareVal > 0) {
+                swap(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        return new int[] {lt, gt};
+    }
+
+    /**
+     * Swaps the elements at indices a and b.
+     */
+    void swap(E[] arr, int a, int b) {
+        E temp = arr[a];
+        arr[a] = arr[b];
+        arr[b] = temp;
+    }
+}
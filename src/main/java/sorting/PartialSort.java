@@ -0,0 +1,64 @@
+package sorting;
+
+import java.util.Random;
+
+/**
+ * Sorts only the k smallest (or largest) elements of a list, for when the rest of the order doesn't matter - e.g.
+ * leaderboards and top-N queries. The high-level algorithm:
+ * 1. Use {@link QuickSelect#introSelect} to move the kth smallest element into index k - 1. Since the select partitions
+ *    the list as it goes, everything before index k - 1 is then less than or equal to it, and everything after is
+ *    greater than or equal to it, so the first k indices hold the k smallest elements in no particular order.
+ * 2. Sort just that prefix with {@link IntroSort}.
+ *
+ * Selecting is O(n) and sorting the prefix is O(klogk), so the time complexity is O(n + klogk) versus the O(nlogn) to
+ * sort the whole list, even in the worst case. introSelect partitions three ways, so this also holds for inputs with
+ * only a few distinct values, e.g. top-k over a handful of categories. The elements outside the prefix are left in an
+ * unspecified order.
+ */
+public class PartialSort<E extends Comparable> {
+
+    private final QuickSelect<E> quickSelect;
+
+    private final IntroSort<E> introSort = new IntroSort<>();
+
+    public PartialSort(Random random) {
+        this.quickSelect = new QuickSelect<>(random);
+    }
+
+    /**
+     * Rearranges the list so that its first k indices hold the k smallest elements in ascending order.
+     */
+    public void partialSort(E[] list, int k) {
+        checkBounds(list, k);
+        if (k == 0) {
+            return;
+        }
+        quickSelect.introSelect(list, k - 1);
+        sortRange(list, 0, k - 1);
+    }
+
+    /**
+     * Rearranges the list so that its last k indices hold the k largest elements in ascending order.
+     */
+    public void partialSortLargest(E[] list, int k) {
+        checkBounds(list, k);
+        if (k == 0) {
+            return;
+        }
+        int start = list.length - k;
+        quickSelect.introSelect(list, start);
+        sortRange(list, start, list.length - 1);
+    }
+
+    private void sortRange(E[] list, int left, int right) {
+        if (left < right) {
+            introSort.sort(list, left, right, IntroSort.depthLimit(right - left + 1));
+        }
+    }
+
+    private void checkBounds(E[] list, int k) {
+        if (k < 0 || k > list.length) {
+            throw new IllegalArgumentException("k " + k + " is out of bounds for length " + list.length);
+        }
+    }
+}
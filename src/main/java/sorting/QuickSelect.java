@@ -1,6 +1,10 @@
 package sorting;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Random;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * QuickSelect algorithm based on the partitioning strategy leveraged in QuickSort to find the kth smallest
@@ -22,21 +26,65 @@ import java.util.Random;
  *
  * In the best case, we pick a good pivot that evenly partitions the list in half each time. The work here would then be
  * n + n / 2 + n / 4 + ... + 1. That sequence is < 2n, therefore is O(n).
+ *
+ * {@link #introSelect} guarantees O(n) in the worst case instead. It starts out with cheap median-of-three pivots, and
+ * if the range stops shrinking by at least half it switches to median-of-medians pivots, which always discard at least
+ * 30% of the range. It also partitions three ways, so elements equal to the pivot are never partitioned again.
+ *
+ * {@link #select(Comparable[], int[])} finds several order statistics at once. Every partition resolves the ranks
+ * that land on the pivot and splits the remaining ranks between the two sides, and a side is only partitioned further
+ * if it still has ranks in it. For r ranks this is about O(n log r) rather than the O(rn) of r separate selects.
+ *
+ * {@link #select(Comparable[], int)} also comes in {@link Comparator} and int / long key extractor flavors. Keys are
+ * extracted once up front rather than on every comparison.
+ *
+ * A {@link SortProbe} can be passed in to count comparisons, swaps and how evenly each partition splits its range.
+ * Selection loops rather than recursing, so the probe's recursion depth is only used by the median-of-medians
+ * recursion in introSelect.
  */
 public class QuickSelect<E extends Comparable> {
+    /**
+     * Number of partitions that fail to halve the range before introSelect switches to median-of-medians pivots.
+     */
+    static final int MAX_STALLS = 2;
+
     private Random random;
 
+    private final SortProbe probe;
+
+    /**
+     * Comparator for the natural ordering, so that the natural and Comparator based selects can share the same code.
+     * It's only set when the probe needs to count comparisons, otherwise it's null and compareTo is called directly.
+     */
+    private final Comparator<E> naturalOrder;
+
     public QuickSelect(Random random) {
+        this(random, SortProbe.NONE);
+    }
+
+    public QuickSelect(Random random, SortProbe probe) {
         this.random = random;
+        this.probe = probe;
+        this.naturalOrder = probe == SortProbe.NONE ? null : SortProbe.instrument((a, b) -> a.compareTo(b), probe);
     }
 
     /**
      * Select the kth smallest element using the QuickSelect algorithm
      */
     public E select(E[] list, int k) {
+        return select(list, k, naturalOrder);
+    }
+
+    /**
+     * Select the kth smallest element in the order given by the comparator rather than the natural ordering.
+     */
+    public E select(E[] list, int k, Comparator<? super E> comparator) {
+        if (comparator != naturalOrder) {
+            comparator = SortProbe.instrument(comparator, probe);
+        }
         int pivot = -1, left = 0, right = list.length - 1;
         while (pivot != k) {
-            pivot = partition(list, left, right);
+            pivot = partition(list, left, right, comparator);
             if (pivot < k) {
                 left = pivot + 1;
             } else if (pivot > k) {
@@ -46,7 +94,35 @@ public class QuickSelect<E extends Comparable> {
         return list[k];
     }
 
+    /**
+     * Select the element with the kth smallest int key. See {@link #selectByLongKey}.
+     */
+    public E selectByIntKey(E[] list, int k, ToIntFunction<? super E> keyExtractor) {
+        long[] keys = new long[list.length];
+        for (int i = 0; i < list.length; i++) {
+            keys[i] = keyExtractor.applyAsInt(list[i]);
+        }
+        return selectByKey(keys, list, k);
+    }
+
+    /**
+     * Select the element with the kth smallest long key. Each key is extracted once into a primitive array that's
+     * partitioned alongside the list, so every comparison is a primitive comparison rather than a call to compareTo or
+     * a Comparator.
+     */
+    public E selectByLongKey(E[] list, int k, ToLongFunction<? super E> keyExtractor) {
+        long[] keys = new long[list.length];
+        for (int i = 0; i < list.length; i++) {
+            keys[i] = keyExtractor.applyAsLong(list[i]);
+        }
+        return selectByKey(keys, list, k);
+    }
+
     int partition(E[] list, int left, int right) {
+        return partition(list, left, right, naturalOrder);
+    }
+
+    int partition(E[] list, int left, int right, Comparator<? super E> comparator) {
         if (left == right) {
             return left; // Nothing to partition. Also nextInt doesn't like when the bound is 0.
         }
@@ -61,22 +137,255 @@ public class QuickSelect<E extends Comparable> {
         // Place the pivot element in the pivot index.
         // This means that for dupes equivalent to pivot elem, we still place it to the right of the pivot.
         for (int i = left + 1; i <= right; i++) {
-            int compareVal = list[pivot].compareTo(list[i]);
+            int compareVal = Sort.compare(list[pivot], list[i], comparator);
             if (compareVal > 0) {
                 E temp = list[pivot];
                 list[pivot] = list[i];
                 pivot++;
                 list[i] = list[pivot];
                 list[pivot] = temp;
+                probe.onSwap();
+            }
+        }
+        probe.onPartition(pivot - left, right - pivot);
+        return pivot;
+    }
+
+    /**
+     * Same as {@link #select(Comparable[], int)}, except the keys are compared and every move is mirrored in both arrays,
+     * where keys[i] is the key of list[i].
+     */
+    E selectByKey(long[] keys, E[] list, int k) {
+        int pivot = -1, left = 0, right = list.length - 1;
+        while (pivot != k) {
+            pivot = partitionByKey(keys, list, left, right);
+            if (pivot < k) {
+                left = pivot + 1;
+            } else if (pivot > k) {
+                right = pivot - 1;
             }
         }
+        return list[k];
+    }
+
+    int partitionByKey(long[] keys, E[] list, int left, int right) {
+        if (left == right) {
+            return left;
+        }
+        swap(keys, list, left, left + random.nextInt(right - left));
+        int pivot = left;
+        for (int i = left + 1; i <= right; i++) {
+            probe.onCompare();
+            if (keys[i] < keys[pivot]) {
+                swap(keys, list, i, pivot);
+                pivot++;
+                swap(keys, list, pivot, i);
+            }
+        }
+        probe.onPartition(pivot - left, right - pivot);
         return pivot;
     }
 
+    /**
+     * Swaps the elements and their keys at indices a and b.
+     */
+    void swap(long[] keys, E[] list, int a, int b) {
+        long tempKey = keys[a];
+        keys[a] = keys[b];
+        keys[b] = tempKey;
+        swap(list, a, b);
+    }
+
     void swap(E[] list, int a, int b) {
+        probe.onSwap();
         E temp = list[a];
         list[a] = list[b];
         list[b] = temp;
     }
 
+    /**
+     * Select the elements at each of the given ranks in one recursive sweep, e.g. for computing several percentiles
+     * of the same list. The ranks must be sorted in ascending order and within [0, list.length). Afterwards, for every
+     * rank r, list[r] holds the rth smallest element.
+     *
+     * @return the selected elements, in the same order as the ranks
+     */
+    public E[] select(E[] list, int[] ranks) {
+        for (int i = 0; i < ranks.length; i++) {
+            if (ranks[i] < 0 || ranks[i] >= list.length) {
+                throw new IllegalArgumentException("Rank " + ranks[i] + " is out of bounds for length " + list.length);
+            }
+            if (i > 0 && ranks[i] < ranks[i - 1]) {
+                throw new IllegalArgumentException("Ranks must be sorted in ascending order");
+            }
+        }
+        multiSelect(list, 0, list.length - 1, ranks, 0, ranks.length - 1);
+
+        E[] selected = Arrays.copyOf(list, ranks.length);
+        for (int i = 0; i < ranks.length; i++) {
+            selected[i] = list[ranks[i]];
+        }
+        return selected;
+    }
+
+    /**
+     * Partitions [left, right] around a random pivot, then recurses into each side only if it contains any of the
+     * unresolved ranks in ranks[rankLo, rankHi].
+     */
+    void multiSelect(E[] list, int left, int right, int[] ranks, int rankLo, int rankHi) {
+        if (left >= right || rankLo > rankHi) {
+            return;
+        }
+        E pivot = list[left + random.nextInt(right - left + 1)];
+        int[] bounds = partitionThreeWay(list, left, right, pivot);
+        // Ranks in [rankLo, lower) are left of the pivot range, ranks in [upper, rankHi] are right of it.
+        // Anything in between landed on an element equal to the pivot and is already in place.
+        int lower = firstRankAtLeast(ranks, rankLo, rankHi, bounds[0]);
+        int upper = firstRankAtLeast(ranks, lower, rankHi, bounds[1] + 1);
+        multiSelect(list, left, bounds[0] - 1, ranks, rankLo, lower - 1);
+        multiSelect(list, bounds[1] + 1, right, ranks, upper, rankHi);
+    }
+
+    /**
+     * @return the first index in the sorted ranks[lo, hi] whose rank is >= target, or hi + 1 if there is none.
+     */
+    int firstRankAtLeast(int[] ranks, int lo, int hi, int target) {
+        hi++;
+        while (lo < hi) {
+            int mid = lo + (hi - lo) / 2;
+            if (ranks[mid] < target) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Select the kth smallest element using introselect, which is O(n) in the worst case.
+     *
+     * Each round partitions the range three ways around the pivot value. If k lands in the range of elements equal to
+     * the pivot we're done, otherwise we continue in the side that contains k. As long as pivots are decent, each round
+     * at least halves the range and the work is bounded by 2n as with QuickSelect. After more than MAX_STALLS rounds
+     * that don't halve the range, every further pivot is the median of medians, so the stalled rounds add at most
+     * O(n) work before the range starts shrinking geometrically again.
+     */
+    public E introSelect(E[] list, int k) {
+        int left = 0, right = list.length - 1, stalls = 0;
+        while (left < right) {
+            int size = right - left + 1;
+            int pivot = stalls > MAX_STALLS
+                    ? medianOfMedians(list, left, right)
+                    : medianOfThree(list, left, left + (right - left) / 2, right);
+            int[] bounds = partitionThreeWay(list, left, right, list[pivot]);
+            if (k < bounds[0]) {
+                right = bounds[0] - 1;
+            } else if (k > bounds[1]) {
+                left = bounds[1] + 1;
+            } else {
+                return list[k];
+            }
+            if (right - left + 1 > size / 2) {
+                stalls++;
+            }
+        }
+        return list[k];
+    }
+
+    /**
+     * Finds a pivot that's guaranteed to be greater than and less than roughly 30% of the range [left, right]:
+     * 1. Split the range into groups of 5 and find the median of each group with insertion sort.
+     * 2. Move the medians to the front of the range.
+     * 3. Recursively select the median of those medians.
+     * Half of the medians are <= the pivot, and each of those has 2 more elements in its group that are <= it. So at
+     * least 3/10 of the range is <= the pivot, and by symmetry 3/10 is >= it.
+     * This gives the recurrence T(n) = T(n / 5) + T(7n / 10) + O(n), which is O(n) since 1/5 + 7/10 < 1.
+     *
+     * @return the index of the pivot within [left, right]
+     */
+    int medianOfMedians(E[] list, int left, int right) {
+        if (right - left < 5) {
+            insertionSort(list, left, right);
+            return left + (right - left) / 2;
+        }
+        int medians = left;
+        for (int i = left; i <= right; i += 5) {
+            int groupRight = Math.min(i + 4, right);
+            insertionSort(list, i, groupRight);
+            swap(list, medians++, i + (groupRight - i) / 2);
+        }
+        return selectIndex(list, left, medians - 1, left + (medians - 1 - left) / 2);
+    }
+
+    /**
+     * Deterministically selects the kth smallest element within [left, right] using median-of-medians pivots.
+     *
+     * @return k, once the kth smallest element of the range is at index k
+     */
+    int selectIndex(E[] list, int left, int right, int k) {
+        probe.enter();
+        while (left < right) {
+            int[] bounds = partitionThreeWay(list, left, right, list[medianOfMedians(list, left, right)]);
+            if (k < bounds[0]) {
+                right = bounds[0] - 1;
+            } else if (k > bounds[1]) {
+                left = bounds[1] + 1;
+            } else {
+                break;
+            }
+        }
+        probe.exit();
+        return k;
+    }
+
+    /**
+     * Partitions [left, right] into elements < pivot, == pivot and > pivot - see {@link ThreeWayQuickSort#partition}.
+     *
+     * @return the inclusive bounds {lt, gt} of the range of elements equal to the pivot
+     */
+    int[] partitionThreeWay(E[] list, int left, int right, E pivot) {
+        int lt = left, i = left, gt = right;
+        while (i <= gt) {
+            int compareVal = Sort.compare(list[i], pivot, naturalOrder);
+            if (compareVal < 0) {
+                swap(list, lt++, i++);
+            } else if (compareVal > 0) {
+                swap(list, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        probe.onPartition(lt - left, right - gt);
+        return new int[] {lt, gt};
+    }
+
+    /**
+     * @return whichever of the indices a, b and c holds the median of the three elements.
+     */
+    int medianOfThree(E[] list, int a, int b, int c) {
+        if (Sort.compare(list[a], list[b], naturalOrder) < 0) {
+            if (Sort.compare(list[b], list[c], naturalOrder) < 0) {
+                return b;
+            }
+            return Sort.compare(list[a], list[c], naturalOrder) < 0 ? c : a;
+        }
+        if (Sort.compare(list[a], list[c], naturalOrder) < 0) {
+            return a;
+        }
+        return Sort.compare(list[b], list[c], naturalOrder) < 0 ? c : b;
+    }
+
+    void insertionSort(E[] list, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            E val = list[i];
+            int j = i - 1;
+            while (j >= left && Sort.compare(list[j], val, naturalOrder) > 0) {
+                list[j + 1] = list[j];
+                j--;
+            }
+            list[j + 1] = val;
+        }
+    }
+
 }
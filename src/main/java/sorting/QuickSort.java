@@ -1,6 +1,10 @@
 package sorting;
 
+import java.util.Comparator;
+import java.util.Objects;
 import java.util.Random;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * QuickSort implementation based off the high-level algorithm:
@@ -20,26 +24,93 @@ import java.util.Random;
  *
  * Space-wise, each level doesn't use any additional space to partition around the pivot. However, for poorly chosen pivots
  * our recursion stack is bounded by O(n). In the best case scenario, it's O(logn).
+ *
+ * Besides the natural ordering, the array can be sorted with a {@link Comparator}, or by an int or long key extracted
+ * from each element. Keys are extracted once up front rather than on every comparison.
+ *
+ * A {@link SortProbe} can be passed in to count comparisons, swaps, recursion depth and how evenly each partition
+ * splits its range - see {@link InstrumentedSort}.
+ *
+ * See {@link IntroSort} for a variant that guarantees O(nlogn) time and O(logn) stack depth in the worst case.
  */
 public class QuickSort<E extends Comparable> implements Sort<E> {
 
     private Random random;
 
+    private final SortProbe probe;
+
+    /**
+     * Comparator for the natural ordering, so that the natural and Comparator based sorts can share the same code.
+     * It's only set when the probe needs to count comparisons, otherwise it's null and compareTo is called directly.
+     */
+    private final Comparator<E> naturalOrder;
+
     public QuickSort(Random random) {
+        this(random, SortProbe.NONE);
+    }
+
+    public QuickSort(Random random, SortProbe probe) {
         this.random = random;
+        this.probe = probe;
+        this.naturalOrder = probe == SortProbe.NONE ? null : SortProbe.instrument((a, b) -> a.compareTo(b), probe);
     }
 
+    @Override
     public void sort(E[] arr) {
-        sort(arr, 0, arr.length - 1);
+        sort(arr, 0, arr.length - 1, naturalOrder);
     }
 
+    /**
+     * Sorts the array within the given range [left, right]. Inclusive of both indices.
+     */
+    @Override
     public void sort(E[] arr, int left, int right) {
+        Objects.checkFromToIndex(left, right + 1, arr.length);
+        sort(arr, left, right, naturalOrder);
+    }
+
+    /**
+     * Sorts the array in the order given by the comparator rather than the natural ordering.
+     */
+    public void sort(E[] arr, Comparator<? super E> comparator) {
+        sort(arr, 0, arr.length - 1, SortProbe.instrument(comparator, probe));
+    }
+
+    /**
+     * Sorts the array by the int key extracted from each element. See {@link #sortByLongKey}.
+     */
+    public void sortByIntKey(E[] arr, ToIntFunction<? super E> keyExtractor) {
+        long[] keys = new long[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            keys[i] = keyExtractor.applyAsInt(arr[i]);
+        }
+        sortByKey(keys, arr, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the array by the long key extracted from each element. Each key is extracted once into a primitive array
+     * that's partitioned alongside the array, so every comparison is a primitive comparison rather than a call to
+     * compareTo or a Comparator.
+     */
+    public void sortByLongKey(E[] arr, ToLongFunction<? super E> keyExtractor) {
+        long[] keys = new long[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            keys[i] = keyExtractor.applyAsLong(arr[i]);
+        }
+        sortByKey(keys, arr, 0, arr.length - 1);
+    }
+
+    void sort(E[] arr, int left, int right, Comparator<? super E> comparator) {
+        // Base cases count towards the depth too, the same as in MergeSort
+        probe.enter();
         if (left >= right) {
+            probe.exit();
             return; // No sorting required for a single element
         }
-        int pivot = partition(arr, left, right);
-        sort(arr, left, pivot - 1);
-        sort(arr, pivot + 1, right);
+        int pivot = partition(arr, left, right, comparator);
+        sort(arr, left, pivot - 1, comparator);
+        sort(arr, pivot + 1, right, comparator);
+        probe.exit();
     }
 
     /**
@@ -50,6 +121,10 @@ public class QuickSort<E extends Comparable> implements Sort<E> {
      * @return the pivot index
      */
     int partition(E[] arr, int left, int right) {
+        return partition(arr, left, right, naturalOrder);
+    }
+
+    int partition(E[] arr, int left, int right, Comparator<? super E> comparator) {
         int pivot = left + random.nextInt(right - left); // Generate random offset [0, right - left)
         // Move pivot to the start of the range
         swap(arr, left, pivot);
@@ -61,13 +136,46 @@ public class QuickSort<E extends Comparable> implements Sort<E> {
         // Populate the pivot index with the pivot element.
         // The above will maintain the partition property.
         for (int i = left + 1; i <= right; i++) {
-            int compareVal = arr[i].compareTo(arr[pivot]);
+            int compareVal = Sort.compare(arr[i], arr[pivot], comparator);
             if (compareVal < 0) {
                 swap(arr, i, pivot); // Place smaller element at the pivot index and move the pivot index up
                 pivot++;
                 swap(arr, pivot, i); // Place larger element to the right of the pivot and pivot elem in correct spot
             }
         }
+        probe.onPartition(pivot - left, right - pivot);
+        return pivot;
+    }
+
+    /**
+     * Same as {@link #sort(Comparable[], int, int)}, except the keys are compared and every swap is mirrored in both
+     * arrays, where keys[i] is the key of arr[i].
+     */
+    void sortByKey(long[] keys, E[] arr, int left, int right) {
+        probe.enter();
+        if (left >= right) {
+            probe.exit();
+            return;
+        }
+        int pivot = partitionByKey(keys, arr, left, right);
+        sortByKey(keys, arr, left, pivot - 1);
+        sortByKey(keys, arr, pivot + 1, right);
+        probe.exit();
+    }
+
+    int partitionByKey(long[] keys, E[] arr, int left, int right) {
+        int pivot = left + random.nextInt(right - left);
+        swap(keys, arr, left, pivot);
+        pivot = left;
+        for (int i = left + 1; i <= right; i++) {
+            probe.onCompare();
+            if (keys[i] < keys[pivot]) {
+                swap(keys, arr, i, pivot);
+                pivot++;
+                swap(keys, arr, pivot, i);
+            }
+        }
+        probe.onPartition(pivot - left, right - pivot);
         return pivot;
     }
 
@@ -75,8 +183,19 @@ public class QuickSort<E extends Comparable> implements Sort<E> {
      * Swaps the elements at indices a and b.
      */
     void swap(E[] arr, int a, int b) {
+        probe.onSwap();
         E temp = arr[a];
         arr[a] = arr[b];
         arr[b] = temp;
     }
+
+    /**
+     * Swaps the elements and their keys at indices a and b.
+     */
+    void swap(long[] keys, E[] arr, int a, int b) {
+        long tempKey = keys[a];
+        keys[a] = keys[b];
+        keys[b] = tempKey;
+        swap(arr, a, b);
+    }
 }
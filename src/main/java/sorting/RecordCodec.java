@@ -0,0 +1,20 @@
+package sorting;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Serializes records to and from the temporary run files used by {@link ExternalSort}.
+ */
+public interface RecordCodec<E> {
+    void write(E record, DataOutput out) throws IOException;
+
+    E read(DataInput in) throws IOException;
+
+    /**
+     * Estimated number of bytes the record occupies on the heap. This is used to decide how many records fit in the
+     * memory budget, so it should err on the side of overestimating.
+     */
+    long sizeOf(E record);
+}
@@ -1,5 +1,24 @@
 package sorting;
 
+import java.util.Comparator;
+
 public interface Sort<E extends Comparable> {
     void sort(E[] list);
+
+    /**
+     * Sorts the list within the given range [left, right], inclusive of both indices. Elements outside the range are
+     * left untouched. An empty range (left == right + 1) is allowed.
+     *
+     * @throws IndexOutOfBoundsException if the range isn't within the bounds of the list
+     */
+    void sort(E[] list, int left, int right);
+
+    /**
+     * Compares a and b with the comparator, or by their natural ordering if the comparator is null. The natural
+     * ordering calls compareTo directly rather than through a Comparator, so sorts that aren't given a comparator or a
+     * {@link SortProbe} don't pay for an extra call on every comparison. java.util.TreeMap does the same.
+     */
+    static <E extends Comparable> int compare(E a, E b, Comparator<? super E> comparator) {
+        return comparator == null ? a.compareTo(b) : comparator.compare(a, b);
+    }
 }
@@ -0,0 +1,49 @@
+package sorting;
+
+import java.util.Comparator;
+
+/**
+ * Hooks that sorting algorithms call as they work, so their behavior can be measured. Every hook is a no-op by default.
+ *
+ * Algorithms that aren't being measured use {@link #NONE}. Its hooks are empty, so once the JIT inlines them they cost
+ * nothing, and comparisons aren't even routed through a counting wrapper - see {@link #instrument}.
+ */
+public interface SortProbe {
+
+    SortProbe NONE = new SortProbe() { };
+
+    default void onCompare() { }
+
+    default void onSwap() { }
+
+    /**
+     * Called when elements are copied into place without a swap, e.g. when merging or shifting during insertion sort.
+     */
+    default void onMove(int count) { }
+
+    /**
+     * Called when a recursive call starts. Every call to enter is paired with a call to {@link #exit}.
+     */
+    default void enter() { }
+
+    default void exit() { }
+
+    /**
+     * Called after a partition splits a range into leftSize elements before the pivot(s) and rightSize elements after.
+     */
+    default void onPartition(int leftSize, int rightSize) { }
+
+    /**
+     * @return the comparator as is when the probe is {@link #NONE}, otherwise a comparator that reports every
+     * comparison to the probe.
+     */
+    static <E> Comparator<E> instrument(Comparator<E> comparator, SortProbe probe) {
+        if (probe == NONE) {
+            return comparator;
+        }
+        return (a, b) -> {
+            probe.onCompare();
+            return comparator.compare(a, b);
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package sorting;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Counters collected from a {@link SortProbe}, readable after a sort to compare how algorithms behave on a workload.
+ * Not thread-safe - use one instance per sort, and don't share it with parallel sorts.
+ */
+@Getter
+public class SortStats implements SortProbe {
+
+    private long comparisons;
+
+    private long swaps;
+
+    private long moves;
+
+    /**
+     * Deepest level of recursion reached, where the top-level call is depth 1. Every call counts, including base
+     * cases, so the depth is comparable across algorithms.
+     */
+    private int maxDepth;
+
+    private long partitions;
+
+    /**
+     * Largest imbalance of any single partition, from 0.0 (split evenly) to 1.0 (everything on one side).
+     */
+    private double worstPartitionImbalance;
+
+    /**
+     * Bytes allocated by the sorting thread during the sort, or -1 if the JVM can't measure it.
+     * Only set by {@link InstrumentedSort}.
+     */
+    private long bytesAllocated = -1;
+
+    /**
+     * Only set by {@link InstrumentedSort}.
+     */
+    private long wallTimeNanos;
+
+    @Getter(AccessLevel.NONE)
+    private int depth;
+
+    @Getter(AccessLevel.NONE)
+    private double imbalanceSum;
+
+    @Override
+    public void onCompare() {
+        comparisons++;
+    }
+
+    @Override
+    public void onSwap() {
+        swaps++;
+    }
+
+    @Override
+    public void onMove(int count) {
+        moves += count;
+    }
+
+    @Override
+    public void enter() {
+        maxDepth = Math.max(maxDepth, ++depth);
+    }
+
+    @Override
+    public void exit() {
+        depth--;
+    }
+
+    @Override
+    public void onPartition(int leftSize, int rightSize) {
+        int size = leftSize + rightSize;
+        double imbalance = size == 0 ? 0.0 : Math.abs(leftSize - rightSize) / (double) size;
+        partitions++;
+        imbalanceSum += imbalance;
+        worstPartitionImbalance = Math.max(worstPartitionImbalance, imbalance);
+    }
+
+    /**
+     * @return the average imbalance across all partitions, from 0.0 (split evenly) to 1.0 (everything on one side).
+     */
+    public double getMeanPartitionImbalance() {
+        return partitions == 0 ? 0.0 : imbalanceSum / partitions;
+    }
+
+    void setBytesAllocated(long bytesAllocated) {
+        this.bytesAllocated = bytesAllocated;
+    }
+
+    void setWallTimeNanos(long wallTimeNanos) {
+        this.wallTimeNanos = wallTimeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "SortStats(comparisons=" + comparisons + ", swaps=" + swaps + ", moves=" + moves
+                + ", maxDepth=" + maxDepth + ", partitions=" + partitions
+                + ", meanPartitionImbalance=" + getMeanPartitionImbalance()
+                + ", worstPartitionImbalance=" + worstPartitionImbalance
+                + ", bytesAllocated=" + bytesAllocated + ", wallTimeNanos=" + wallTimeNanos + ")";
+    }
+}
@@ -0,0 +1,125 @@
+package sorting;
+
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Three-way radix quicksort (Bentley and Sedgewick's multikey quicksort) specialized for strings.
+ *
+ * A comparison sort calls {@link String#compareTo} on every comparison, and compareTo starts over from the first
+ * character each time. When strings share long prefixes (URLs, file paths), the prefixes are scanned again and again.
+ * Instead, this sorts one character position d at a time:
+ * 1. Pick a random pivot string and partition the range three ways on the character at position d:
+ *    [char < pivot char][char == pivot char][char > pivot char]
+ * 2. The smaller and larger ranges still differ at position d, so they're sorted again from d.
+ * 3. Every string in the middle range shares the same first d + 1 characters, so it's sorted from d + 1 and those
+ *    characters are never looked at again.
+ * A string that ends before position d sorts before any character, so it stays first.
+ *
+ * This is {@link ThreeWayQuickSort} applied to characters rather than whole elements, and inherits its handling of
+ * duplicates. Each character of a shared prefix is examined about once per string instead of once per comparison.
+ * Sorting n strings is O(nlogn + D) character comparisons on average, where D is the total length of the
+ * distinguishing prefixes - versus O(nlogn) full string comparisons, each up to the length of the shared prefix.
+ *
+ * Small ranges are sorted with an insertion sort that compares from position d onwards.
+ * Descending into the middle range is a loop rather than a recursive call, so long shared prefixes don't deepen the
+ * stack. The order is the same as {@link String#compareTo} (by UTF-16 code unit). The sort isn't stable.
+ */
+public class StringSort implements Sort<String> {
+
+    /**
+     * Ranges at or below this size are sorted with insertion sort.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 12;
+
+    private Random random;
+
+    public StringSort(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public void sort(String[] list) {
+        sortRange(list, 0, list.length - 1, 0);
+    }
+
+    /**
+     * Sorts the list within the given range [left, right]. Inclusive of both indices.
+     */
+    @Override
+    public void sort(String[] list, int left, int right) {
+        Objects.checkFromToIndex(left, right + 1, list.length);
+        sortRange(list, left, right, 0);
+    }
+
+    /**
+     * Sorts the range [left, right], given that every string in it shares the same first d characters.
+     */
+    void sortRange(String[] list, int left, int right, int d) {
+        while (right - left >= INSERTION_SORT_THRESHOLD) {
+            int pivot = charAt(list[left + random.nextInt(right - left + 1)], d);
+            int lt = left, i = left, gt = right;
+            while (i <= gt) {
+                int c = charAt(list[i], d);
+                if (c < pivot) {
+                    swap(list, lt++, i++);
+                } else if (c > pivot) {
+                    swap(list, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            sortRange(list, left, lt - 1, d);
+            sortRange(list, gt + 1, right, d);
+            if (pivot < 0) {
+                return; // Every string in the middle range has ended, so they're all equal
+            }
+            left = lt;
+            right = gt;
+            d++;
+        }
+        insertionSort(list, left, right, d);
+    }
+
+    /**
+     * @return the character at position d, or -1 if the string has ended so that it sorts before any character.
+     */
+    int charAt(String s, int d) {
+        return d < s.length() ? s.charAt(d) : -1;
+    }
+
+    /**
+     * Insertion sort of the range [left, right], where every string shares the same first d characters.
+     */
+    void insertionSort(String[] list, int left, int right, int d) {
+        for (int i = left + 1; i <= right; i++) {
+            String val = list[i];
+            int j = i - 1;
+            while (j >= left && compareFrom(list[j], val, d) > 0) {
+                list[j + 1] = list[j];
+                j--;
+            }
+            list[j + 1] = val;
+        }
+    }
+
+    /**
+     * Compares two strings from position d onwards, skipping the prefix that's known to be shared.
+     */
+    int compareFrom(String a, String b, int d) {
+        int length = Math.min(a.length(), b.length());
+        for (int i = d; i < length; i++) {
+            char ca = a.charAt(i), cb = b.charAt(i);
+            if (ca != cb) {
+                return ca - cb;
+            }
+        }
+        return a.length() - b.length();
+    }
+
+    void swap(String[] list, int a, int b) {
+        String temp = list[a];
+        list[a] = list[b];
+        list[b] = temp;
+    }
+}
@@ -0,0 +1,87 @@
+package sorting;
+
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * {@link QuickSort} variant that partitions into three ranges instead of two, using the Dutch national flag algorithm:
+ * [elements < pivot][elements == pivot][elements > pivot]
+ *
+ * QuickSort places elements equal to the pivot on its right side, so a range of many duplicates only gets reduced by
+ * one element per partition, and a range that's all one value is sorted in O(n^2). Here every element equal to the
+ * pivot lands in its final position in one pass, and only the strictly smaller and strictly larger ranges are sorted
+ * further.
+ *
+ * Each partition removes at least one distinct value from further consideration, so with k distinct values the
+ * recursion is only about log(k) levels deep for good pivots and the time complexity is O(nlogk). When all values are
+ * distinct this is the same as QuickSort - O(nlogn) on average and O(n^2) in the worst case.
+ */
+public class ThreeWayQuickSort<E extends Comparable> implements Sort<E> {
+
+    private Random random;
+
+    public ThreeWayQuickSort(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public void sort(E[] arr) {
+        sortRange(arr, 0, arr.length - 1);
+    }
+
+    /**
+     * Sorts the array within the given range [left, right]. Inclusive of both indices.
+     */
+    @Override
+    public void sort(E[] arr, int left, int right) {
+        Objects.checkFromToIndex(left, right + 1, arr.length);
+        sortRange(arr, left, right);
+    }
+
+    void sortRange(E[] arr, int left, int right) {
+        if (left >= right) {
+            return; // No sorting required for a single element
+        }
+        int[] bounds = partition(arr, left, right);
+        sortRange(arr, left, bounds[0] - 1);
+        sortRange(arr, bounds[1] + 1, right);
+    }
+
+    /**
+     * Selects a random pivot element and rearranges the given range of the array into three sections: elements less
+     * than the pivot, elements equal to the pivot, and elements greater than the pivot.
+     *
+     * Three pointers are maintained while scanning the range:
+     * [left, lt) holds elements < pivot
+     * [lt, i) holds elements == pivot
+     * [i, gt] is yet to be scanned
+     * (gt, right] holds elements > pivot
+     *
+     * @return the inclusive bounds {lt, gt} of the range of elements equal to the pivot
+     */
+    int[] partition(E[] arr, int left, int right) {
+        E pivot = arr[left + random.nextInt(right - left)]; // Generate random offset [0, right - left)
+        int lt = left, i = left, gt = right;
+        while (i <= gt) {
+            int compareVal = arr[i].compareTo(pivot);
+            if (compareVal < 0) {
+                swap(arr, lt++, i++);
+            } else if (compareVal > 0) {
+                // The element swapped in from gt hasn't been scanned yet, so don't advance i
+                swap(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        return new int[] {lt, gt};
+    }
+
+    /**
+     * Swaps the elements at indices a and b.
+     */
+    void swap(E[] arr, int a, int b) {
+        E temp = arr[a];
+        arr[a] = arr[b];
+        arr[b] = temp;
+    }
+}
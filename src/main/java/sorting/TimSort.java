@@ -0,0 +1,428 @@
+package sorting;
+
+import java.util.Objects;
+
+/**
+ * Adaptive merge sort in the style of TimSort. Rather than always splitting the list down to single elements like
+ * {@link MergeSort}, it takes advantage of order that's already in the input:
+ * 1. Scan the list left to right for natural runs - maximal ranges that are already ascending (non-decreasing) or
+ *    strictly descending. Descending runs are reversed in place. They have to be strictly descending, otherwise
+ *    reversing would swap the order of equal elements and break stability.
+ * 2. Runs shorter than minRun (somewhere in [16, 32], chosen so the number of runs is close to a power of 2) are
+ *    extended with binary insertion sort.
+ * 3. Runs are pushed onto a stack, and adjacent runs are merged whenever the run lengths stop shrinking quickly
+ *    enough from the bottom of the stack to the top. This keeps merges balanced, and the stack depth is O(logn).
+ * 4. When merging, the elements of the left run that are already smaller than the whole right run, and the elements of
+ *    the right run that are already larger than the whole left run, are skipped since they're already in place.
+ *    If one run keeps "winning" during a merge, the merge switches to galloping mode, which uses exponential search
+ *    to find how many elements in a row to take from the winning run and copies them in bulk.
+ *
+ * On random input this does O(nlogn) comparisons like MergeSort. On input that's already sorted (or reversed) it's a
+ * single run and the sort is O(n), and inputs made up of a few runs take roughly O(n log(number of runs)).
+ *
+ * Unlike the original TimSort, merges always buffer the left run and merge forwards rather than buffering whichever
+ * run is smaller. This keeps the merge logic in one place at the cost of a larger buffer. The space complexity is O(n).
+ * The sort is stable.
+ *
+ * Ranges in this class are half open - [lo, hi) - to match the run base / length bookkeeping.
+ */
+public class TimSort<E extends Comparable> implements Sort<E> {
+
+    /**
+     * Lists shorter than this are sorted with a single binary insertion sort.
+     */
+    static final int MIN_MERGE = 32;
+
+    /**
+     * Number of consecutive wins by the same run before a merge switches to galloping mode.
+     */
+    static final int MIN_GALLOP = 7;
+
+    /**
+     * Run lengths on the stack grow at least as fast as the Fibonacci numbers, so this many runs can't fit in an array
+     * of up to Integer.MAX_VALUE elements.
+     */
+    static final int MAX_STACK_SIZE = 49;
+
+    @Override
+    public void sort(E[] list) {
+        sortRange(list, 0, list.length);
+    }
+
+    /**
+     * Sorts the list within the given range [left, right]. Inclusive of both indices.
+     */
+    @Override
+    public void sort(E[] list, int left, int right) {
+        Objects.checkFromToIndex(left, right + 1, list.length);
+        sortRange(list, left, right + 1);
+    }
+
+    /**
+     * Sorts the half open range [lo, hi).
+     */
+    void sortRange(E[] list, int lo, int hi) {
+        int n = hi - lo;
+        if (n < 2) {
+            return;
+        }
+        if (n < MIN_MERGE) {
+            int runLength = countRunAndMakeAscending(list, lo, hi);
+            binaryInsertionSort(list, lo, hi, lo + runLength);
+            return;
+        }
+
+        Merger merger = new Merger(list);
+        int minRun = minRunLength(n);
+        int remaining = n;
+        while (remaining > 0) {
+            int runLength = countRunAndMakeAscending(list, lo, hi);
+            // Extend short runs to minRun (or to the end of the list)
+            if (runLength < minRun) {
+                int forced = Math.min(remaining, minRun);
+                binaryInsertionSort(list, lo, lo + forced, lo + runLength);
+                runLength = forced;
+            }
+            merger.pushRun(lo, runLength);
+            merger.mergeCollapse();
+            lo += runLength;
+            remaining -= runLength;
+        }
+        merger.mergeForceCollapse();
+    }
+
+    /**
+     * @return the minimum run length for a list of size n. Takes the top 5 bits of n, and adds 1 if any of the
+     * remaining bits are set. That way n / minRun is a power of 2 or slightly less than one, which keeps the final
+     * merges balanced.
+     */
+    static int minRunLength(int n) {
+        int remainder = 0;
+        while (n >= MIN_MERGE) {
+            remainder |= (n & 1);
+            n >>= 1;
+        }
+        return n + remainder;
+    }
+
+    /**
+     * Finds the length of the run starting at lo, reversing it if it's strictly descending.
+     *
+     * @return the length of the run, which is at least 1
+     */
+    int countRunAndMakeAscending(E[] list, int lo, int hi) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+        if (list[runHi++].compareTo(list[lo]) < 0) {
+            while (runHi < hi && list[runHi].compareTo(list[runHi - 1]) < 0) {
+                runHi++;
+            }
+            reverse(list, lo, runHi);
+        } else {
+            while (runHi < hi && list[runHi].compareTo(list[runHi - 1]) >= 0) {
+                runHi++;
+            }
+        }
+        return runHi - lo;
+    }
+
+    /**
+     * Sorts [lo, hi) given that [lo, start) is already sorted. Each element is placed with a binary search, so only
+     * O(log n) comparisons are needed per element even though shifting is still O(n). Equal elements are inserted after
+     * existing ones to keep the sort stable.
+     */
+    void binaryInsertionSort(E[] list, int lo, int hi, int start) {
+        for (; start < hi; start++) {
+            E pivot = list[start];
+            int left = lo, right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (pivot.compareTo(list[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(list, left, list, left + 1, start - left);
+            list[left] = pivot;
+        }
+    }
+
+    /**
+     * Reverses the range [lo, hi).
+     */
+    void reverse(E[] list, int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            E temp = list[lo];
+            list[lo++] = list[hi];
+            list[hi--] = temp;
+        }
+    }
+
+    /**
+     * @return the number of elements in the sorted range [base, base + length) that are strictly less than key, i.e.
+     * the leftmost position key could be inserted at.
+     */
+    int gallopLeft(E key, E[] list, int base, int length) {
+        if (length == 0 || key.compareTo(list[base]) <= 0) {
+            return 0;
+        }
+        // Exponential search: find lastOffset < offset with list[base + lastOffset] < key <= list[base + offset]
+        int lastOffset = 0, offset = 1;
+        while (offset < length && list[base + offset].compareTo(key) < 0) {
+            lastOffset = offset;
+            offset = (offset << 1) + 1;
+            if (offset <= 0) { // Overflow
+                offset = length;
+            }
+        }
+        offset = Math.min(offset, length);
+
+        // Binary search within (lastOffset, offset]
+        int lo = lastOffset + 1;
+        while (lo < offset) {
+            int mid = (lo + offset) >>> 1;
+            if (list[base + mid].compareTo(key) < 0) {
+                lo = mid + 1;
+            } else {
+                offset = mid;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * @return the number of elements in the sorted range [base, base + length) that are less than or equal to key,
+     * i.e. the rightmost position key could be inserted at.
+     */
+    int gallopRight(E key, E[] list, int base, int length) {
+        if (length == 0 || key.compareTo(list[base]) < 0) {
+            return 0;
+        }
+        int lastOffset = 0, offset = 1;
+        while (offset < length && list[base + offset].compareTo(key) <= 0) {
+            lastOffset = offset;
+            offset = (offset << 1) + 1;
+            if (offset <= 0) {
+                offset = length;
+            }
+        }
+        offset = Math.min(offset, length);
+
+        int lo = lastOffset + 1;
+        while (lo < offset) {
+            int mid = (lo + offset) >>> 1;
+            if (list[base + mid].compareTo(key) <= 0) {
+                lo = mid + 1;
+            } else {
+                offset = mid;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Holds the state for a single sort: the stack of pending runs, the merge buffer, and the current galloping
+     * threshold. Keeping this per sort means a TimSort instance can be shared between threads.
+     */
+    private class Merger {
+        private final E[] list;
+        private E[] tmp;
+
+        /**
+         * Adjusted as merges go - lowered when galloping pays off and raised when it doesn't.
+         */
+        private int minGallop = MIN_GALLOP;
+
+        private final int[] runBase = new int[MAX_STACK_SIZE];
+        private final int[] runLength = new int[MAX_STACK_SIZE];
+        private int stackSize = 0;
+
+        Merger(E[] list) {
+            this.list = list;
+            this.tmp = newArray(Math.min(256, list.length));
+        }
+
+        void pushRun(int base, int length) {
+            runBase[stackSize] = base;
+            runLength[stackSize] = length;
+            stackSize++;
+        }
+
+        /**
+         * Merges runs on the stack until the lengths of the top runs A, B, C (from the top) satisfy:
+         * 1. length(C) > length(B) + length(A)
+         * 2. length(B) > length(A)
+         * The first condition is also checked one level deeper, since checking only the top three runs isn't enough to
+         * keep the invariant for the whole stack.
+         */
+        void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if ((n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1])
+                        || (n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1])) {
+                    // Merge B with the smaller of A and C
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break; // Invariant holds
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges all the remaining runs until only one is left.
+         */
+        void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges the runs at stack indices i and i + 1.
+         */
+        void mergeAt(int i) {
+            int base1 = runBase[i], length1 = runLength[i];
+            int base2 = runBase[i + 1], length2 = runLength[i + 1];
+
+            runLength[i] = length1 + length2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            stackSize--;
+
+            // Elements of run 1 that are <= the first element of run 2 are already in place
+            int skip = gallopRight(list[base2], list, base1, length1);
+            base1 += skip;
+            length1 -= skip;
+            if (length1 == 0) {
+                return;
+            }
+            // Elements of run 2 that are >= the last element of run 1 are already in place
+            length2 = gallopLeft(list[base1 + length1 - 1], list, base2, length2);
+            if (length2 == 0) {
+                return;
+            }
+            mergeLo(base1, length1, base2, length2);
+        }
+
+        /**
+         * Merges the adjacent runs [base1, base1 + length1) and [base2, base2 + length2) by copying the first run into
+         * the buffer and merging forwards. Requires that the first element of run 1 is greater than the first element
+         * of run 2, and that the last element of run 1 is greater than every element of run 2 - see {@link #mergeAt}.
+         */
+        void mergeLo(int base1, int length1, int base2, int length2) {
+            E[] list = this.list;
+            E[] tmp = ensureCapacity(length1);
+            System.arraycopy(list, base1, tmp, 0, length1);
+            int cursor1 = 0, cursor2 = base2, dest = base1;
+
+            // The first element of run 2 always goes first
+            list[dest++] = list[cursor2++];
+            length2--;
+
+            int minGallop = this.minGallop;
+            outer:
+            while (length2 > 0 && length1 > 1) {
+                int count1 = 0, count2 = 0;
+
+                // Take one element at a time until one run wins minGallop times in a row
+                do {
+                    if (list[cursor2].compareTo(tmp[cursor1]) < 0) {
+                        list[dest++] = list[cursor2++];
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        list[dest++] = tmp[cursor1++];
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < minGallop);
+
+                // Gallop until neither run is winning by a long enough streak
+                do {
+                    count1 = gallopRight(list[cursor2], tmp, cursor1, length1);
+                    if (count1 != 0) {
+                        System.arraycopy(tmp, cursor1, list, dest, count1);
+                        dest += count1;
+                        cursor1 += count1;
+                        length1 -= count1;
+                        if (length1 <= 1) {
+                            break outer;
+                        }
+                    }
+                    list[dest++] = list[cursor2++];
+                    if (--length2 == 0) {
+                        break outer;
+                    }
+
+                    count2 = gallopLeft(tmp[cursor1], list, cursor2, length2);
+                    if (count2 != 0) {
+                        System.arraycopy(list, cursor2, list, dest, count2);
+                        dest += count2;
+                        cursor2 += count2;
+                        length2 -= count2;
+                        if (length2 == 0) {
+                            break outer;
+                        }
+                    }
+                    list[dest++] = tmp[cursor1++];
+                    if (--length1 == 1) {
+                        break outer;
+                    }
+                    minGallop--;
+                } while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+
+                // Galloping stopped paying off, so make it harder to get back into
+                minGallop = Math.max(minGallop, 0) + 2;
+            }
+            this.minGallop = Math.max(minGallop, 1);
+
+            if (length1 == 1) {
+                // The last element of run 1 is greater than everything left in run 2
+                System.arraycopy(list, cursor2, list, dest, length2);
+                list[dest + length2] = tmp[cursor1];
+            } else if (length1 == 0) {
+                throw new IllegalArgumentException("Comparison method violates its general contract");
+            } else {
+                // Run 2 is exhausted
+                System.arraycopy(tmp, cursor1, list, dest, length1);
+            }
+        }
+
+        /**
+         * @return the merge buffer, grown to hold at least minCapacity elements.
+         */
+        E[] ensureCapacity(int minCapacity) {
+            if (tmp.length < minCapacity) {
+                int capacity = Math.max(minCapacity, Math.min(tmp.length * 2, list.length));
+                tmp = newArray(capacity);
+            }
+            return tmp;
+        }
+
+        /**
+         * The buffer is only used internally, so an array of the erased type is enough and avoids reflection.
+         */
+        E[] newArray(int capacity) {
+            return (E[]) new Comparable[capacity];
+        }
+    }
+}
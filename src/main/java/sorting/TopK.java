@@ -0,0 +1,107 @@
+package sorting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming collector of the k largest elements seen so far, for inputs that arrive incrementally and can't be held in
+ * memory all at once.
+ *
+ * The collected elements are kept in a min heap of size at most k, so the root is the smallest of the current top k.
+ * When a new element arrives:
+ * 1. If fewer than k elements have been seen, it's added to the heap.
+ * 2. Otherwise, if it's greater than the root, it replaces the root, which gets pushed out of the top k.
+ * 3. Otherwise it can't be in the top k and is dropped.
+ * Ties with the root are dropped, so among equal elements the earliest arrivals are kept.
+ *
+ * Each add is O(logk) and the heap uses O(k) space no matter how many elements are added. Over n elements that's
+ * O(nlogk), and reading out the result in sorted order is another O(klogk).
+ */
+public class TopK<E extends Comparable> {
+
+    private final E[] heap;
+
+    private int size;
+
+    public TopK(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        this.heap = (E[]) new Comparable[k];
+        this.size = 0;
+    }
+
+    public void add(E elem) {
+        if (size < heap.length) {
+            heap[size] = elem;
+            siftUp(size++);
+        } else if (elem.compareTo(heap[0]) > 0) {
+            heap[0] = elem;
+            siftDown(heap, 0, size);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the smallest of the top k elements, which is the threshold a new element has to beat to be collected.
+     * Null if nothing has been added yet.
+     */
+    public E peek() {
+        return size == 0 ? null : heap[0];
+    }
+
+    /**
+     * @return the collected elements from largest to smallest. The collector itself is left unchanged.
+     */
+    public List<E> toSortedList() {
+        // Pop from a copy of the heap. Each pop moves the smallest remaining element to the end of the copy.
+        E[] copy = heap.clone();
+        for (int end = size - 1; end > 0; end--) {
+            E temp = copy[0];
+            copy[0] = copy[end];
+            copy[end] = temp;
+            siftDown(copy, 0, end);
+        }
+        List<E> sorted = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            sorted.add(copy[i]);
+        }
+        return sorted;
+    }
+
+    private void siftUp(int i) {
+        E val = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (heap[parent].compareTo(val) <= 0) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = val;
+    }
+
+    /**
+     * Moves the element at index i down until neither of its children are smaller than it, considering only the first
+     * size elements of the heap.
+     */
+    private void siftDown(E[] heap, int i, int size) {
+        E val = heap[i];
+        int child;
+        while ((child = 2 * i + 1) < size) {
+            if (child + 1 < size && heap[child + 1].compareTo(heap[child]) < 0) {
+                child++;
+            }
+            if (val.compareTo(heap[child]) <= 0) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = val;
+    }
+}
@@ -0,0 +1,71 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Minimal timing harness for the benchmark tests, which are tagged "benchmark" and only run with `gradle benchmark`.
+ *
+ * Each measurement runs the workload a few times untimed so the JIT has compiled it, then times several runs and
+ * reports the median, which is less sensitive to GC pauses than the mean. Every run gets a fresh input from the setup
+ * step, which isn't timed. Workloads return a checksum of their result, which is written to a volatile field so the JIT
+ * can't eliminate a workload whose result goes unused.
+ *
+ * This doesn't fork a JVM per benchmark the way JMH does, so the numbers are best read as comparisons between
+ * implementations measured in the same run rather than as absolute costs.
+ */
+public final class Benchmark {
+
+    static final int WARMUP_RUNS = 5;
+    static final int MEASURED_RUNS = 10;
+
+    private static volatile long sink;
+
+    private Benchmark() { }
+
+    /**
+     * @return the median wall time of the workload in nanoseconds.
+     */
+    public static <T> long medianNanos(Supplier<T> setup, ToLongFunction<T> workload) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            sink += workload.applyAsLong(setup.get());
+        }
+        long[] times = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            T input = setup.get();
+            long start = System.nanoTime();
+            sink += workload.applyAsLong(input);
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return times[MEASURED_RUNS / 2];
+    }
+
+    /**
+     * @return roughly how many bytes of heap the object built by the supplier retains, measured as the difference in
+     * used heap after a GC before and after building it. Only meaningful for objects of at least a few megabytes.
+     */
+    public static long retainedBytes(Supplier<?> supplier) {
+        long before = usedHeap();
+        Object retained = supplier.get();
+        long after = usedHeap();
+        sink += System.identityHashCode(retained);
+        return after - before;
+    }
+
+    /**
+     * Prints a row of a results table, so that all the benchmarks report in the same format.
+     */
+    public static void report(String benchmark, String implementation, String metric, double value) {
+        System.out.printf("%-32s %-28s %14.1f %s%n", benchmark, implementation, value, metric);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,158 @@
+package datastructs.Map;
+
+import static benchmark.Benchmark.medianNanos;
+import static benchmark.Benchmark.report;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Measures how the throughput of {@link ConcurrentHashMap} scales with the number of threads, against a
+ * {@link HashMap} behind a single lock. Run with `gradle benchmark`.
+ *
+ * Every thread count does the same total number of operations, split evenly between the threads, on a map that was
+ * filled beforehand: 90% gets and 10% puts over a fixed range of keys, so the map doesn't grow during the run.
+ * Throughput can only scale up to the number of cores of the machine running the benchmark.
+ */
+@Tag("benchmark")
+public class ConcurrentHashMapBenchmark {
+
+    static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+
+    static final int KEYS = 100_000;
+
+    static final int TOTAL_OPS = 1_600_000;
+
+    static final int PUT_PERCENT = 10;
+
+    @Test
+    public void benchmarkThroughputByThreadCount() {
+        System.out.println("Available processors: " + Runtime.getRuntime().availableProcessors());
+        for (int threads : THREAD_COUNTS) {
+            benchmark("ConcurrentHashMap", threads, () -> ConcurrentHashMap.<Integer, Integer>builder().build());
+            benchmark("synchronized HashMap", threads,
+                    () -> new SynchronizedMap<>(HashMap.<Integer, Integer>builder().build()));
+        }
+    }
+
+    void benchmark(String name, int threads, Supplier<Map<Integer, Integer>> factory) {
+        long nanos = medianNanos(() -> fill(factory.get()), map -> run(map, threads));
+        report("get/put 90/10, " + threads + " threads", name, "ops/ms", TOTAL_OPS / (nanos / 1e6));
+    }
+
+    /**
+     * Runs TOTAL_OPS operations split between the given number of threads, which all start at once.
+     *
+     * @return the sum of the values read, so the gets can't be optimized away
+     */
+    long run(Map<Integer, Integer> map, int threads) {
+        CountDownLatch start = new CountDownLatch(1);
+        long[] sums = new long[threads];
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                awaitQuietly(start);
+                long sum = 0;
+                for (int i = 0; i < TOTAL_OPS / threads; i++) {
+                    int key = random.nextInt(KEYS);
+                    if (random.nextInt(100) < PUT_PERCENT) {
+                        map.put(key, i);
+                    } else {
+                        sum += map.get(key);
+                    }
+                }
+                sums[index] = sum;
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        long total = 0;
+        for (int t = 0; t < threads; t++) {
+            try {
+                workers.get(t).join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            total += sums[t];
+        }
+        return total;
+    }
+
+    Map<Integer, Integer> fill(Map<Integer, Integer> map) {
+        for (int i = 0; i < KEYS; i++) {
+            map.put(i, i);
+        }
+        return map;
+    }
+
+    static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The single-lock alternative: every operation holds the wrapper's monitor, so only one thread uses the map at a
+     * time.
+     */
+    static class SynchronizedMap<K,V> implements Map<K,V> {
+        private final Map<K,V> map;
+
+        SynchronizedMap(Map<K,V> map) {
+            this.map = map;
+        }
+
+        @Override
+        public synchronized void put(K key, V value) {
+            map.put(key, value);
+        }
+
+        @Override
+        public synchronized int size() {
+            return map.size();
+        }
+
+        @Override
+        public synchronized boolean remove(K key) {
+            return map.remove(key);
+        }
+
+        @Override
+        public synchronized boolean containsKey(K key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public synchronized V get(K key) {
+            return map.get(key);
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return map.isEmpty();
+        }
+
+        @Override
+        public synchronized Collection<K> keySet() {
+            return map.keySet();
+        }
+
+        @Override
+        public synchronized Collection<V> values() {
+            return map.values();
+        }
+    }
+}
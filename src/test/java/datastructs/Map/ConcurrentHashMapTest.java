@@ -0,0 +1,221 @@
+package datastructs.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConcurrentHashMapTest {
+    static final int THREADS = 8;
+
+    ConcurrentHashMap<Integer, Integer> map;
+
+    ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        map = ConcurrentHashMap.<Integer, Integer>builder().build();
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    public void teardown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testPut_OverwritesEntry_WhenMapHasEntry() {
+        // Arrange
+        map.put(1, 2);
+
+        // Act
+        map.put(1, 3);
+
+        // Assert
+        assertThat(map.get(1), is(3));
+        assertThat(map.size(), is(1));
+    }
+
+    @Test
+    public void testPut_ResizesMap_WhenAboveMaxCapacityThreshold() {
+        // Arrange
+        int expectedCapacity = map.getCapacity() * 2;
+
+        // Act
+        for (int i = 0; i < 13; i++) {
+            map.put(i, i);
+        }
+
+        // Assert
+        assertThat(map.getCapacity(), is(expectedCapacity));
+        for (int i = 0; i < 13; i++) {
+            assertThat(map.get(i), is(i));
+        }
+    }
+
+    @Test
+    public void testRemove() {
+        // Arrange - with a capacity of 16, these all land in the same bin
+        map.put(1, 1);
+        map.put(17, 17);
+        map.put(33, 33);
+
+        // Act
+        boolean removedHead = map.remove(1);
+        boolean removedMiddle = map.remove(17);
+        boolean removedMissing = map.remove(49);
+
+        // Assert
+        assertThat(removedHead, is(true));
+        assertThat(removedMiddle, is(true));
+        assertThat(removedMissing, is(false));
+        assertThat(map.get(1), is(nullValue()));
+        assertThat(map.get(33), is(33));
+        assertThat(map.size(), is(1));
+    }
+
+    @Test
+    public void testKeySetAndValues_IncludeMovedBins() {
+        // Arrange
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i % 3);
+        }
+
+        // Act
+        Set<Integer> keys = map.keySet();
+        List<Integer> values = map.values();
+
+        // Assert
+        assertThat(keys.size(), is(100));
+        assertThat(values.size(), is(100));
+        assertThat(new HashSet<>(values), containsInAnyOrder(0, 1, 2));
+    }
+
+    @Test
+    public void testConcurrentPuts_AllEntriesPresentAfterCooperativeResizes() throws Exception {
+        // Arrange - start tiny so that the writers run into many resizes
+        map = ConcurrentHashMap.<Integer, Integer>builder().capacity(2).build();
+        int perThread = 50_000;
+        List<Callable<Void>> writers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t * perThread;
+            writers.add(() -> {
+                for (int i = offset; i < offset + perThread; i++) {
+                    map.put(i, -i);
+                }
+                return null;
+            });
+        }
+
+        // Act
+        runConcurrently(writers);
+
+        // Assert
+        assertThat(map.size(), is(THREADS * perThread));
+        for (int i = 0; i < THREADS * perThread; i++) {
+            assertThat(map.get(i), is(-i));
+        }
+        assertThat(map.keySet().size(), is(THREADS * perThread));
+    }
+
+    @Test
+    public void testConcurrentPutsAndRemoves_OnSharedKeys_KeepSizeConsistent() throws Exception {
+        // Arrange - every thread puts and removes the same keys, so writers contend on the same bins
+        int keys = 1_000;
+        List<Callable<Void>> writers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int seed = t;
+            writers.add(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    int key = (i * 31 + seed) % keys;
+                    if ((i + seed) % 3 == 0) {
+                        map.remove(key);
+                    } else {
+                        map.put(key, key);
+                    }
+                }
+                return null;
+            });
+        }
+
+        // Act
+        runConcurrently(writers);
+
+        // Assert - the counted size must agree with the entries actually in the map
+        Set<Integer> present = map.keySet();
+        assertThat(map.size(), is(present.size()));
+        for (int key = 0; key < keys; key++) {
+            assertThat(map.get(key), is(present.contains(key) ? key : null));
+        }
+    }
+
+    @Test
+    public void testReadsDuringResize_NeverMissExistingEntries() throws Exception {
+        // Arrange
+        map = ConcurrentHashMap.<Integer, Integer>builder().capacity(2).build();
+        int stable = 1_000;
+        for (int i = 0; i < stable; i++) {
+            map.put(i, i);
+        }
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        tasks.add(() -> {
+            for (int i = stable; i < 300_000; i++) {
+                map.put(i, i);
+            }
+            writing.set(false);
+            return null;
+        });
+        for (int t = 1; t < THREADS; t++) {
+            tasks.add(() -> {
+                while (writing.get()) {
+                    for (int i = 0; i < stable; i++) {
+                        if (map.get(i) == null || map.get(i) != i) {
+                            throw new AssertionError("Missing key " + i);
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+
+        // Act / Assert - any reader that missed a key fails its future
+        runConcurrently(tasks);
+        assertThat(map.size(), is(300_000));
+    }
+
+    /**
+     * Starts all the tasks at the same time and waits for them, rethrowing the first failure.
+     */
+    private void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (Callable<Void> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        for (Future<Void> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -7,8 +7,10 @@ import static org.hamcrest.Matchers.nullValue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 public class HashMapTest {
@@ -225,4 +227,297 @@ public class HashMapTest {
         // Assert
         assertThat(output, is(false));
     }
+
+    @Test
+    public void testIncrementalResize_MigratesGraduallyAndKeepsEntriesReachable() {
+        // Arrange
+        map = HashMap.<Integer, Integer>builder()
+                .capacity(64)
+                .incrementalResize(true)
+                .migrationStep(1)
+                .build();
+        for (int i = 0; i < 48; i++) {
+            map.put(i, i);
+        }
+
+        // Act - crossing the threshold starts a migration rather than rehashing everything
+        map.put(48, 48);
+
+        // Assert
+        assertThat(map.isMigrating(), is(true));
+        assertThat(map.getCapacity(), is(128));
+        for (int i = 0; i <= 48; i++) {
+            assertThat(map.get(i), is(i));
+        }
+        assertThat(map.keySet().size(), is(49));
+        // Each get migrated one chain. The trailing empty chains are skipped at most 10 per operation.
+        assertThat(map.isMigrating(), is(true));
+        map.get(0);
+        map.get(0);
+        assertThat(map.isMigrating(), is(false));
+    }
+
+    @Test
+    public void testIncrementalResize_UpdatesAndRemovesEntriesInOldTable() {
+        // Arrange
+        map = HashMap.<Integer, Integer>builder()
+                .capacity(64)
+                .incrementalResize(true)
+                .migrationStep(1)
+                .build();
+        for (int i = 0; i < 49; i++) {
+            map.put(i, i);
+        }
+
+        // Act - the highest keys are in chains at the end of the old table, so haven't been migrated yet
+        map.put(47, -47);
+        boolean removed = map.remove(46);
+
+        // Assert
+        assertThat(map.isMigrating(), is(true));
+        assertThat(removed, is(true));
+        assertThat(map.size(), is(48));
+        assertThat(map.get(47), is(-47));
+        assertThat(map.containsKey(46), is(false));
+        assertThat(map.values().contains(47), is(false));
+    }
+
+    @Test
+    public void testIncrementalResize_MatchesJavaUtilHashMap() {
+        // Arrange
+        Random random = new Random(79);
+        java.util.HashMap<Integer, Integer> expected = new java.util.HashMap<>();
+        map = HashMap.<Integer, Integer>builder().incrementalResize(true).build();
+
+        // Act / Assert
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(5_000) - 2_500;
+            if (random.nextInt(4) == 0) {
+                assertThat(map.remove(key), is(expected.remove(key) != null));
+            } else {
+                map.put(key, i);
+                expected.put(key, i);
+            }
+            assertThat(map.size(), is(expected.size()));
+        }
+        for (Integer key : expected.keySet()) {
+            assertThat(map.get(key), is(expected.get(key)));
+        }
+        assertThat(map.keySet(), is(expected.keySet()));
+    }
+
+    @Test
+    public void testPut_ResizesMap_WhenChainTooLongInSmallTable() {
+        // Arrange - keys that are multiples of 16 all land in the first chain of a table of 16
+        map = HashMap.<Integer, Integer>builder().maxCapacityThreshold(100).build();
+
+        // Act
+        for (int i = 0; i <= HashMap.TREEIFY_THRESHOLD; i++) {
+            map.put(i * 16, i);
+        }
+
+        // Assert
+        assertThat(map.getCapacity(), is(32));
+        assertThat(map.getChainStats().getTreeBins(), is(0));
+    }
+
+    @Test
+    public void testPut_TreeifiesChain_WhenKeysCollide() {
+        // Arrange
+        HashMap<CollidingKey, Integer> collidingMap = HashMap.<CollidingKey, Integer>builder()
+                .capacity(HashMap.MIN_TREEIFY_CAPACITY)
+                .maxCapacityThreshold(100)
+                .build();
+
+        // Act
+        for (int i = 0; i < 1_000; i++) {
+            collidingMap.put(new CollidingKey(i), i);
+        }
+
+        // Assert
+        ChainStats stats = collidingMap.getChainStats();
+        assertThat(collidingMap.getCapacity(), is(HashMap.MIN_TREEIFY_CAPACITY));
+        assertThat(stats.getTreeBins(), is(1));
+        assertThat(stats.getMaxTreeBinSize(), is(1_000));
+        assertThat(stats.getMaxChainLength(), is(0));
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(collidingMap.get(new CollidingKey(i)), is(i));
+        }
+        assertThat(collidingMap.get(new CollidingKey(1_000)), is(nullValue()));
+    }
+
+    @Test
+    public void testRemove_UntreeifiesBin_WhenTreeShrinks() {
+        // Arrange
+        HashMap<CollidingKey, Integer> collidingMap = HashMap.<CollidingKey, Integer>builder()
+                .capacity(HashMap.MIN_TREEIFY_CAPACITY)
+                .build();
+        for (int i = 0; i <= HashMap.TREEIFY_THRESHOLD; i++) {
+            collidingMap.put(new CollidingKey(i), i);
+        }
+        assertThat(collidingMap.getChainStats().getTreeBins(), is(1));
+
+        // Act
+        for (int i = HashMap.TREEIFY_THRESHOLD; i >= HashMap.UNTREEIFY_THRESHOLD; i--) {
+            assertThat(collidingMap.remove(new CollidingKey(i)), is(true));
+        }
+
+        // Assert
+        ChainStats stats = collidingMap.getChainStats();
+        assertThat(stats.getTreeBins(), is(0));
+        assertThat(stats.getMaxChainLength(), is(HashMap.UNTREEIFY_THRESHOLD));
+        for (int i = 0; i < HashMap.UNTREEIFY_THRESHOLD; i++) {
+            assertThat(collidingMap.get(new CollidingKey(i)), is(i));
+        }
+    }
+
+    @Test
+    public void testTreeBin_HandlesCollidingKeysThatAreNotComparable() {
+        // Arrange - List.of(i, -31 * i) always hashes to 31 * 31, as does the Integer 961
+        HashMap<Object, Integer> collidingMap = HashMap.<Object, Integer>builder()
+                .capacity(HashMap.MIN_TREEIFY_CAPACITY)
+                .build();
+        for (int i = 0; i < 20; i++) {
+            collidingMap.put(List.of(i, -31 * i), i);
+        }
+        collidingMap.put(961, -1);
+        assertThat(collidingMap.getChainStats().getMaxTreeBinSize(), is(21));
+
+        // Act
+        collidingMap.put(List.of(3, -93), 30);
+        boolean removed = collidingMap.remove(List.of(4, -124));
+
+        // Assert
+        assertThat(removed, is(true));
+        assertThat(collidingMap.size(), is(20));
+        assertThat(collidingMap.get(List.of(3, -93)), is(30));
+        assertThat(collidingMap.containsKey(List.of(4, -124)), is(false));
+        assertThat(collidingMap.get(List.of(5, -155)), is(5));
+        assertThat(collidingMap.get(961), is(-1));
+    }
+
+    @Test
+    public void testTreeBin_FindsCollidingKeysOfMixedComparableClasses_InAnyInsertionOrder() {
+        // Arrange - every combination of "Aa" and "BB" has the same hash code, as do an Integer of that value and a Long
+        // of that value's unsigned bits
+        List<Object> keys = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            StringBuilder key = new StringBuilder();
+            for (int bit = 0; bit < 4; bit++) {
+                key.append((i >> bit & 1) == 0 ? "Aa" : "BB");
+            }
+            keys.add(key.toString());
+        }
+        int hash = keys.get(0).hashCode();
+        long longKey = hash & 0xFFFFFFFFL;
+        keys.add(hash);
+        keys.add(longKey);
+
+        for (int rotation = 0; rotation < keys.size(); rotation++) {
+            HashMap<Object, Integer> collidingMap = HashMap.<Object, Integer>builder()
+                    .capacity(HashMap.MIN_TREEIFY_CAPACITY)
+                    .build();
+
+            // Act
+            for (int i = 0; i < keys.size(); i++) {
+                collidingMap.put(keys.get((rotation + i) % keys.size()), i);
+            }
+            for (Object key : keys) {
+                collidingMap.put(key, key.hashCode());
+            }
+
+            // Assert
+            assertThat(collidingMap.getChainStats().getMaxTreeBinSize(), is(keys.size()));
+            assertThat(collidingMap.size(), is(keys.size()));
+            for (Object key : keys) {
+                // Equal but not identical keys must be found too
+                Object copy = key instanceof String ? new String((String) key) : key;
+                assertThat(collidingMap.containsKey(copy), is(true));
+                assertThat(collidingMap.get(copy), is(hash));
+            }
+            assertThat(collidingMap.remove(hash), is(true));
+            assertThat(collidingMap.containsKey(hash), is(false));
+            assertThat(collidingMap.get(longKey), is(hash));
+            assertThat(collidingMap.get(keys.get(rotation % 16)), is(hash));
+        }
+    }
+
+    @Test
+    public void testTreeBins_MatchJavaUtilHashMap_WithIncrementalResize() {
+        // Arrange
+        Random random = new Random(83);
+        java.util.HashMap<CollidingKey, Integer> expected = new java.util.HashMap<>();
+        HashMap<CollidingKey, Integer> collidingMap = HashMap.<CollidingKey, Integer>builder()
+                .incrementalResize(true)
+                .build();
+
+        // Act / Assert
+        for (int i = 0; i < 20_000; i++) {
+            CollidingKey key = new CollidingKey(random.nextInt(2_000), 8);
+            if (random.nextInt(3) == 0) {
+                assertThat(collidingMap.remove(key), is(expected.remove(key) != null));
+            } else {
+                collidingMap.put(key, i);
+                expected.put(key, i);
+            }
+            assertThat(collidingMap.size(), is(expected.size()));
+        }
+        for (CollidingKey key : expected.keySet()) {
+            assertThat(collidingMap.get(key), is(expected.get(key)));
+        }
+        assertThat(collidingMap.keySet(), is(expected.keySet()));
+        assertThat(collidingMap.getChainStats().getMaxChainLength() <= HashMap.TREEIFY_THRESHOLD, is(true));
+    }
+
+    @Test
+    public void testGetChainStats_ReportsChainLengths() {
+        // Arrange
+        map = HashMap.<Integer, Integer>builder().maxCapacityThreshold(100).build();
+        map.put(0, 0);
+        map.put(16, 16);
+        map.put(32, 32);
+        map.put(1, 1);
+
+        // Act
+        ChainStats stats = map.getChainStats();
+
+        // Assert
+        assertThat(stats.getEntries(), is(4));
+        assertThat(stats.getNonEmptyBins(), is(2));
+        assertThat(stats.getTreeBins(), is(0));
+        assertThat(stats.getMaxChainLength(), is(3));
+        assertThat(stats.getMaxTreeBinSize(), is(0));
+        assertThat(stats.getAverageChainLength(), is(2.0));
+    }
+
+    /**
+     * Key whose hash code only takes a few distinct values, so that keys pile up in the same bins.
+     */
+    private static class CollidingKey implements Comparable<CollidingKey> {
+        private final int id, hashes;
+
+        CollidingKey(int id) {
+            this(id, 1);
+        }
+
+        CollidingKey(int id, int hashes) {
+            this.id = id;
+            this.hashes = hashes;
+        }
+
+        @Override
+        public int hashCode() {
+            return id % hashes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == id;
+        }
+
+        @Override
+        public int compareTo(CollidingKey o) {
+            return Integer.compare(id, o.id);
+        }
+    }
 }
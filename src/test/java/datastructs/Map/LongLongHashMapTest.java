@@ -0,0 +1,175 @@
+package datastructs.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Random;
+
+public class LongLongHashMapTest {
+    LongLongHashMap map;
+
+    @BeforeEach
+    public void setup() {
+        map = LongLongHashMap.builder().build();
+    }
+
+    @Test
+    public void testPut_AddsEntryAndIncreasesSize_WhenEntryNotInMap() {
+        // Arrange
+        map.put(1, 2);
+
+        // Act
+        map.put(3, 4);
+
+        // Assert
+        assertThat(map.get(3), is(4L));
+        assertThat(map.size(), is(2));
+    }
+
+    @Test
+    public void testPut_OverwritesEntry_WhenMapHasEntry() {
+        // Arrange
+        map.put(1, 2);
+
+        // Act
+        map.put(1, 3);
+
+        // Assert
+        assertThat(map.get(1), is(3L));
+        assertThat(map.size(), is(1));
+    }
+
+    @Test
+    public void testPut_ResizesMap_WhenAboveMaxCapacityThreshold() {
+        // Arrange
+        map = LongLongHashMap.builder().maxCapacityThreshold(.5).build();
+        int expectedCapacity = map.getCapacity() * 2;
+
+        // Act
+        for (int i = 1; i <= 9; i++) {
+            map.put(i, i);
+        }
+
+        // Assert
+        assertThat(map.getCapacity(), is(expectedCapacity));
+        for (int i = 1; i <= 9; i++) {
+            assertThat(map.get(i), is((long) i));
+        }
+    }
+
+    @Test
+    public void testBuilder_ThrowsException_WhenThresholdNotBelowOne() {
+        assertThrows(IllegalArgumentException.class, () -> LongLongHashMap.builder().maxCapacityThreshold(1.5).build());
+    }
+
+    @Test
+    public void testGetOrDefault_ReturnsDefault_WhenKeyDoesNotExist() {
+        // Arrange
+        map.put(10, 11);
+
+        // Act / Assert
+        assertThat(map.getOrDefault(15, -1), is(-1L));
+        assertThat(map.get(15), is(0L));
+        assertThat(map.containsKey(15), is(false));
+    }
+
+    @Test
+    public void testZeroKey_IsStoredAlongsideOtherKeys() {
+        // Arrange
+        map.put(0, 7);
+        map.put(16, 8);
+
+        // Act
+        boolean removed = map.remove(0);
+
+        // Assert
+        assertThat(removed, is(true));
+        assertThat(map.containsKey(0), is(false));
+        assertThat(map.remove(0), is(false));
+        assertThat(map.get(16), is(8L));
+        assertThat(map.size(), is(1));
+    }
+
+    @Test
+    public void testIncrement_CountsOccurrences() {
+        // Arrange
+        long[] input = new long[] {3, 0, 3, 5, 3, 0};
+
+        // Act
+        for (long key : input) {
+            map.increment(key, 1);
+        }
+
+        // Assert
+        assertThat(map.get(3), is(3L));
+        assertThat(map.get(0), is(2L));
+        assertThat(map.get(5), is(1L));
+        assertThat(map.increment(0, 5), is(7L));
+        assertThat(map.increment(9, -2), is(-2L));
+        assertThat(map.size(), is(4));
+    }
+
+    @Test
+    public void testRemove_ReturnsFalse_WhenKeyDoesNotExist() {
+        // Arrange
+        map.put(3, 6);
+
+        // Act
+        boolean output = map.remove(1);
+
+        // Assert
+        assertThat(output, is(false));
+        assertThat(map.size(), is(1));
+    }
+
+    @Test
+    public void testKeysAndValues_ReturnAllEntriesInTheSameOrder() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            map.put(i, i * 10);
+        }
+
+        // Act
+        long[] keys = map.keys();
+        long[] values = map.values();
+
+        // Assert
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(values[i], is(keys[i] * 10));
+        }
+        Arrays.sort(keys);
+        assertThat(keys, is(new long[] {0, 1, 2, 3, 4}));
+    }
+
+    @Test
+    public void testRandomOperations_MatchJavaUtilHashMap() {
+        // Arrange
+        Random random = new Random(73);
+        HashMap<Long, Long> expected = new HashMap<>();
+        map = LongLongHashMap.builder().maxCapacityThreshold(.9).build();
+
+        // Act / Assert - a small key range forces lots of collisions, overwrites and removals
+        for (int i = 0; i < 20_000; i++) {
+            long key = (random.nextInt(500) - 250L) << 40;
+            int op = random.nextInt(3);
+            if (op == 0) {
+                assertThat(map.remove(key), is(expected.remove(key) != null));
+            } else if (op == 1) {
+                map.put(key, i);
+                expected.put(key, (long) i);
+            } else {
+                assertThat(map.increment(key, 1), is(expected.merge(key, 1L, Long::sum)));
+            }
+            assertThat(map.size(), is(expected.size()));
+        }
+        for (Long key : expected.keySet()) {
+            assertThat(map.get(key), is(expected.get(key)));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package datastructs.Map;
+
+import static benchmark.Benchmark.medianNanos;
+import static benchmark.Benchmark.report;
+import static benchmark.Benchmark.retainedBytes;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Compares the open-addressing {@link RobinHoodHashMap} against the chained {@link HashMap} on footprint and on
+ * put / get / remove throughput. Run with `gradle benchmark`.
+ */
+@Tag("benchmark")
+public class RobinHoodHashMapBenchmark {
+
+    static final int SIZE = 500_000;
+
+    /**
+     * Keys are boxed up front and shared by every map, so that neither the footprint nor the timings include boxing.
+     */
+    Integer[] keys, missingKeys;
+
+    @BeforeEach
+    public void setup() {
+        Random random = new Random(21);
+        keys = new Integer[SIZE];
+        missingKeys = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            keys[i] = random.nextInt() | 1;
+            missingKeys[i] = random.nextInt() & ~1;
+        }
+    }
+
+    @Test
+    public void benchmarkFootprint() {
+        report("footprint 500K", "HashMap", "bytes/entry",
+                retainedBytes(() -> fill(HashMap.<Integer, Integer>builder().build())) / (double) SIZE);
+        report("footprint 500K", "RobinHoodHashMap", "bytes/entry",
+                retainedBytes(() -> fill(RobinHoodHashMap.<Integer, Integer>builder().build())) / (double) SIZE);
+    }
+
+    @Test
+    public void benchmarkPut() {
+        benchmarkPut("HashMap", () -> HashMap.<Integer, Integer>builder().build());
+        benchmarkPut("RobinHoodHashMap", () -> RobinHoodHashMap.<Integer, Integer>builder().build());
+    }
+
+    @Test
+    public void benchmarkGet() {
+        benchmarkGet("HashMap", fill(HashMap.<Integer, Integer>builder().build()));
+        benchmarkGet("RobinHoodHashMap", fill(RobinHoodHashMap.<Integer, Integer>builder().build()));
+    }
+
+    @Test
+    public void benchmarkRemove() {
+        benchmarkRemove("HashMap", () -> fill(HashMap.<Integer, Integer>builder().build()));
+        benchmarkRemove("RobinHoodHashMap", () -> fill(RobinHoodHashMap.<Integer, Integer>builder().build()));
+    }
+
+    void benchmarkPut(String name, Supplier<Map<Integer, Integer>> factory) {
+        report("put 500K", name, "ns/op", medianNanos(factory, map -> fill(map).size()) / (double) SIZE);
+    }
+
+    void benchmarkGet(String name, Map<Integer, Integer> map) {
+        report("get hit 500K", name, "ns/op", medianNanos(() -> map, m -> {
+            long sum = 0;
+            for (Integer key : keys) {
+                sum += m.get(key);
+            }
+            return sum;
+        }) / (double) SIZE);
+        report("get miss 500K", name, "ns/op", medianNanos(() -> map, m -> {
+            long misses = 0;
+            for (Integer key : missingKeys) {
+                misses += m.containsKey(key) ? 0 : 1;
+            }
+            return misses;
+        }) / (double) SIZE);
+    }
+
+    void benchmarkRemove(String name, Supplier<Map<Integer, Integer>> filled) {
+        report("remove 500K", name, "ns/op", medianNanos(filled, map -> {
+            for (Integer key : keys) {
+                map.remove(key);
+            }
+            return map.size();
+        }) / (double) SIZE);
+    }
+
+    <M extends Map<Integer, Integer>> M fill(M map) {
+        for (int i = 0; i < SIZE; i++) {
+            map.put(keys[i], i);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,204 @@
+package datastructs.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class RobinHoodHashMapTest {
+    RobinHoodHashMap<Integer, Integer> map;
+
+    @BeforeEach
+    public void setup() {
+        map = RobinHoodHashMap.<Integer, Integer>builder().build();
+    }
+
+    @Test
+    public void testPut_AddsEntryAndIncreasesSize_WhenEntryNotInMap() {
+        // Arrange
+        map.put(1, 2);
+
+        // Act
+        map.put(3, 4);
+
+        // Assert
+        assertThat(map.get(3), is(4));
+        assertThat(map.size(), is(2));
+    }
+
+    @Test
+    public void testPut_OverwritesEntry_WhenMapHasEntry() {
+        // Arrange
+        map.put(1, 2);
+
+        // Act
+        map.put(1, 3);
+
+        // Assert
+        assertThat(map.get(1), is(3));
+        assertThat(map.size(), is(1));
+    }
+
+    @Test
+    public void testPut_ResizesMap_WhenAboveMaxCapacityThreshold() {
+        // Arrange
+        map = RobinHoodHashMap.<Integer, Integer>builder()
+                .maxCapacityThreshold(.001) // Set to some absurdly low value so each add should trigger a resize
+                .build();
+        int expectedCapacity = map.getCapacity() * 2;
+
+        // Act
+        map.put(1, 2);
+
+        // Assert
+        assertThat(map.getCapacity(), is(expectedCapacity));
+        assertThat(map.get(1), is(2));
+    }
+
+    @Test
+    public void testBuilder_RoundsCapacityUpToPowerOfTwo() {
+        // Act
+        map = RobinHoodHashMap.<Integer, Integer>builder().capacity(100).build();
+
+        // Assert
+        assertThat(map.getCapacity(), is(128));
+    }
+
+    @Test
+    public void testBuilder_ThrowsException_WhenThresholdNotBelowOne() {
+        assertThrows(IllegalArgumentException.class,
+                () -> RobinHoodHashMap.<Integer, Integer>builder().maxCapacityThreshold(1.0).build());
+    }
+
+    @Test
+    public void testRemove_ReturnsTrue_WhenKeyExists() {
+        // Arrange
+        map.put(5, 10);
+        map.put(3, 6);
+
+        // Act
+        boolean output = map.remove(3);
+
+        // Assert
+        assertThat(output, is(true));
+        assertThat(map.size(), is(1));
+        assertThat(map.containsKey(3), is(false));
+        assertThat(map.get(5), is(10));
+    }
+
+    @Test
+    public void testRemove_ReturnsFalse_WhenKeyDoesNotExist() {
+        // Arrange
+        map.put(3, 6);
+
+        // Act
+        boolean output = map.remove(1);
+
+        // Assert
+        assertThat(output, is(false));
+        assertThat(map.size(), is(1));
+    }
+
+    @Test
+    public void testRemove_ShiftsBackCollidingKeys() {
+        // Arrange - with a capacity of 16, these all share home slot 1
+        map.put(1, 1);
+        map.put(17, 17);
+        map.put(33, 33);
+        map.put(2, 2);
+
+        // Act
+        map.remove(1);
+
+        // Assert
+        assertThat(map.get(17), is(17));
+        assertThat(map.get(33), is(33));
+        assertThat(map.get(2), is(2));
+        assertThat(map.get(1), is(nullValue()));
+        assertThat(map.size(), is(3));
+    }
+
+    @Test
+    public void testGet_ReturnsNull_WhenKeyDoesNotExist() {
+        // Arrange
+        map.put(10, 11);
+
+        // Act
+        Integer output = map.get(15);
+
+        // Assert
+        assertThat(output, is(nullValue()));
+    }
+
+    @Test
+    public void testContainsKey() {
+        // Arrange
+        map.put(5, 10);
+
+        // Act / Assert
+        assertThat(map.containsKey(5), is(true));
+        assertThat(map.containsKey(6), is(false));
+    }
+
+    @Test
+    public void testKeySetAndValues_ReturnAllEntries() {
+        // Arrange
+        for (int i = 1; i <= 5; i++) {
+            map.put(i, i % 2);
+        }
+
+        // Act
+        Set<Integer> keys = map.keySet();
+        List<Integer> values = map.values();
+
+        // Assert
+        assertThat(keys, is(new HashSet<>(List.of(1, 2, 3, 4, 5))));
+        assertThat(values, containsInAnyOrder(1, 0, 1, 0, 1));
+    }
+
+    @Test
+    public void testIsEmpty() {
+        // Arrange
+        boolean emptyBefore = map.isEmpty();
+
+        // Act
+        map.put(1, 2);
+
+        // Assert
+        assertThat(emptyBefore, is(true));
+        assertThat(map.isEmpty(), is(false));
+    }
+
+    @Test
+    public void testRandomOperations_MatchJavaUtilHashMap() {
+        // Arrange
+        Random random = new Random(71);
+        java.util.HashMap<Integer, Integer> expected = new java.util.HashMap<>();
+        map = RobinHoodHashMap.<Integer, Integer>builder().maxCapacityThreshold(.9).build();
+
+        // Act / Assert - a small key range forces lots of collisions, overwrites and removals
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(500) * (random.nextBoolean() ? 1 : -1 << 16);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key), is(expected.remove(key) != null));
+            } else {
+                map.put(key, i);
+                expected.put(key, i);
+            }
+            assertThat(map.size(), is(expected.size()));
+        }
+        for (Integer key : expected.keySet()) {
+            assertThat(map.get(key), is(expected.get(key)));
+        }
+        assertThat(map.keySet(), is(expected.keySet()));
+    }
+}
@@ -0,0 +1,140 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class ArgSortTest {
+
+    ArgSort argSort;
+
+    Random random;
+
+    @BeforeEach
+    public void setup() {
+        argSort = new ArgSort(new Random());
+        random = new Random(53);
+    }
+
+    @Test
+    public void testMergeSort_ReturnsSortingPermutation() {
+        // Arrange
+        Integer[] input = new Integer[] {30, 10, 20, 10};
+        Integer[] original = input.clone();
+        int[] expected = new int[] {1, 3, 2, 0};
+
+        // Act
+        int[] output = argSort.mergeSort(input);
+
+        // Assert
+        assertThat(output, is(expected));
+        assertThat(input, is(original)); // The list itself isn't moved
+    }
+
+    @Test
+    public void testMergeSort_IsStable() {
+        // Arrange
+        SortVendor.Keyed[] input = new SortVendor(59).vendKeyed(2_000, 10);
+
+        // Act
+        int[] output = argSort.mergeSort(input);
+
+        // Assert
+        assertThat(SortVendor.isStablySorted(argSort.apply(output, input)), is(true));
+    }
+
+    @Test
+    public void testMergeSort_FillsCallerProvidedPermutation_ForPrimitiveKeys() {
+        // Arrange
+        int[] intKeys = random.ints(1_000, -500, 500).toArray();
+        long[] longKeys = random.longs(1_000).toArray();
+        double[] doubleKeys = random.doubles(1_000).toArray();
+        int[] permutation = new int[1_000];
+
+        // Act / Assert
+        argSort.mergeSort(intKeys, permutation);
+        assertSortedBy(permutation, intKeys);
+        argSort.mergeSort(longKeys, permutation);
+        assertSortedBy(permutation, longKeys);
+        argSort.mergeSort(doubleKeys, permutation);
+        assertSortedBy(permutation, doubleKeys);
+    }
+
+    @Test
+    public void testMergeSort_ThrowsException_WhenPermutationLengthMismatched() {
+        // Arrange
+        int[] keys = new int[] {3, 2, 1};
+        int[] permutation = new int[2];
+
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> argSort.mergeSort(keys, permutation));
+    }
+
+    @Test
+    public void testQuickSort_ReturnsSortingPermutation() {
+        // Arrange
+        Integer[] input = new SortVendor(61).vendIntegers(2_000, 50);
+        Integer[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        int[] output = argSort.quickSort(input);
+
+        // Assert
+        assertThat(argSort.apply(output, input), is(expected));
+    }
+
+    @Test
+    public void testQuickSort_FillsCallerProvidedPermutation_ForPrimitiveKeys() {
+        // Arrange
+        int[] intKeys = random.ints(1_000, -5, 5).toArray();
+        long[] longKeys = random.longs(1_000).toArray();
+        double[] doubleKeys = random.doubles(1_000).toArray();
+        int[] permutation = new int[1_000];
+
+        // Act / Assert
+        argSort.quickSort(intKeys, permutation);
+        assertSortedBy(permutation, intKeys);
+        argSort.quickSort(longKeys, permutation);
+        assertSortedBy(permutation, longKeys);
+        argSort.quickSort(doubleKeys, permutation);
+        assertSortedBy(permutation, doubleKeys);
+    }
+
+    @Test
+    public void testApply_ReordersColumn() {
+        // Arrange
+        int[] permutation = new int[] {2, 0, 1};
+        String[] column = new String[] {"a", "b", "c"};
+
+        // Act
+        String[] output = argSort.apply(permutation, column);
+
+        // Assert
+        assertThat(output, is(new String[] {"c", "a", "b"}));
+    }
+
+    void assertSortedBy(int[] permutation, int[] keys) {
+        int[] expected = keys.clone();
+        Arrays.sort(expected);
+        assertThat(Arrays.stream(permutation).map(i -> keys[i]).toArray(), is(expected));
+    }
+
+    void assertSortedBy(int[] permutation, long[] keys) {
+        long[] expected = keys.clone();
+        Arrays.sort(expected);
+        assertThat(Arrays.stream(permutation).mapToLong(i -> keys[i]).toArray(), is(expected));
+    }
+
+    void assertSortedBy(int[] permutation, double[] keys) {
+        double[] expected = keys.clone();
+        Arrays.sort(expected);
+        assertThat(Arrays.stream(permutation).mapToDouble(i -> keys[i]).toArray(), is(expected));
+    }
+}
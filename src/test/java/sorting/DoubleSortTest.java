@@ -0,0 +1,190 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class DoubleSortTest {
+
+    DoubleSort sorter;
+
+    Random random;
+
+    @BeforeEach
+    public void setup() {
+        random = new Random(17);
+        sorter = new DoubleSort(new Random());
+    }
+
+    @Test
+    public void testMergeSort() {
+        // Arrange
+        double[] input = new double[] {3, 2, 1, 4};
+        double[] expected = new double[] {1, 2, 3, 4};
+
+        // Act
+        sorter.mergeSort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testMergeSort_MatchesArraysSort_OnLargeInput() {
+        // Arrange
+        double[] input = vend(5_000, 100);
+        double[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.mergeSort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testMergeSortWithBuffer_ReusesBufferAcrossSorts() {
+        // Arrange
+        double[] buffer = new double[100];
+        double[] first = vend(100, 50), second = vend(60, 50);
+        double[] firstExpected = first.clone(), secondExpected = second.clone();
+        Arrays.sort(firstExpected);
+        Arrays.sort(secondExpected);
+
+        // Act
+        sorter.mergeSort(first, buffer);
+        sorter.mergeSort(second, buffer);
+
+        // Assert
+        assertThat(first, is(firstExpected));
+        assertThat(second, is(secondExpected));
+    }
+
+    @Test
+    public void testMergeSortWithBuffer_ThrowsException_WhenBufferTooSmall() {
+        // Arrange
+        double[] input = new double[] {3, 2, 1};
+        double[] buffer = new double[2];
+
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> sorter.mergeSort(input, buffer));
+    }
+
+    @Test
+    public void testQuickSort_WithDuplicates() {
+        // Arrange
+        double[] input = new double[] {1, 9, 1, 5, 3, 3};
+        double[] expected = new double[] {1, 1, 3, 3, 5, 9};
+
+        // Act
+        sorter.quickSort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testQuickSort_MatchesArraysSort_OnLargeInput() {
+        // Arrange
+        double[] input = vend(5_000, 1_000);
+        double[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.quickSort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSelect() {
+        // Arrange
+        double[] input = new double[] {5, 1, 2, 6, 0};
+        int k = 3;
+
+        // Act
+        double output = sorter.select(input, k);
+
+        // Assert
+        assertThat(output, is((double) 5));
+    }
+
+    @Test
+    public void testSelect_WithDupes() {
+        // Arrange
+        double[] input = new double[] {5, 5, 5, 1, 2};
+        int k = 1;
+
+        // Act
+        double output = sorter.select(input, k);
+
+        // Assert
+        assertThat(output, is((double) 2));
+    }
+
+    @Test
+    public void testPartition_SplitsAroundPivot_WithSignedZerosAndNaN() {
+        // Arrange
+        double[] input = vend(1_000, 50);
+        double[] specials = {Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY};
+        for (int i = 0; i < input.length; i += 5) {
+            input[i] = specials[(i / 5) % specials.length];
+        }
+        double[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        int pivot = sorter.partition(input, 0, input.length - 1);
+
+        // Assert
+        for (int i = 0; i < input.length; i++) {
+            int compareVal = Double.compare(input[i], input[pivot]);
+            assertThat(i < pivot ? compareVal < 0 : compareVal >= 0, is(true));
+        }
+        double[] output = input.clone();
+        Arrays.sort(output);
+        assertThat(output, is(expected));
+    }
+
+    @Test
+    public void testMergeSort_OrdersSignedZerosAndNaNLikeDoubleCompareTo() {
+        // Arrange
+        double[] input = new double[] {Double.NaN, 0.0, Double.POSITIVE_INFINITY, -0.0, -1.5};
+        double[] expected = new double[] {-1.5, -0.0, 0.0, Double.POSITIVE_INFINITY, Double.NaN};
+
+        // Act
+        sorter.mergeSort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testQuickSort_OrdersSignedZerosAndNaNLikeDoubleCompareTo() {
+        // Arrange
+        double[] input = new double[] {0.0, Double.NaN, -0.0, 0.0, -0.0, Double.NEGATIVE_INFINITY};
+        double[] expected = new double[] {Double.NEGATIVE_INFINITY, -0.0, -0.0, 0.0, 0.0, Double.NaN};
+
+        // Act
+        sorter.quickSort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    double[] vend(int length, int bound) {
+        double[] vals = new double[length];
+        for (int i = 0; i < length; i++) {
+            vals[i] = random.nextInt(bound) / 4.0 - bound / 8.0;
+        }
+        return vals;
+    }
+}
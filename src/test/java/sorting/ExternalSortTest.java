@@ -0,0 +1,165 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class ExternalSortTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testSort_MatchesInMemorySort_WithMultipleMergePasses() throws IOException {
+        // Arrange
+        // 40 records per run and a fan-in of 3 gives 250 runs and several merge passes
+        Integer[] records = new SortVendor(43).vendIntegers(10_000, 2_000);
+        Path input = write(records);
+        Path output = tempDir.resolve("output.bin");
+        Path runDir = Files.createDirectory(tempDir.resolve("runs"));
+        ExternalSort<Integer> sorter = ExternalSort.<Integer>builder()
+                .codec(new IntegerCodec())
+                .memoryBudget(160)
+                .fanIn(3)
+                .tempDirectory(runDir)
+                .build();
+        Integer[] expected = records.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.sort(input, output);
+
+        // Assert
+        assertThat(read(output), is(Arrays.asList(expected)));
+        assertThat(listFiles(runDir), is(empty()));
+    }
+
+    @Test
+    public void testSort_UsesConfiguredSorter() throws IOException {
+        // Arrange
+        Integer[] records = new SortVendor(47).vendIntegers(1_000, 100);
+        Path input = write(records);
+        Path output = tempDir.resolve("output.bin");
+        ExternalSort<Integer> sorter = ExternalSort.<Integer>builder()
+                .codec(new IntegerCodec())
+                .sorter(new IntroSort<>())
+                .memoryBudget(400)
+                .tempDirectory(tempDir)
+                .build();
+        Integer[] expected = records.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.sort(input, output);
+
+        // Assert
+        assertThat(read(output), is(Arrays.asList(expected)));
+    }
+
+    @Test
+    public void testSort_WritesEmptyOutput_WhenInputEmpty() throws IOException {
+        // Arrange
+        Path input = write(new Integer[0]);
+        Path output = tempDir.resolve("output.bin");
+        ExternalSort<Integer> sorter = ExternalSort.<Integer>builder()
+                .codec(new IntegerCodec())
+                .tempDirectory(tempDir)
+                .build();
+
+        // Act
+        sorter.sort(input, output);
+
+        // Assert
+        assertThat(read(output), is(empty()));
+    }
+
+    @Test
+    public void testSort_DeletesRuns_WhenSpillFails() throws IOException {
+        // Arrange - the codec fails partway through writing the third run
+        Integer[] records = new SortVendor(53).vendIntegers(1_000, 100);
+        Path input = write(records);
+        Path output = tempDir.resolve("output.bin");
+        Path runDir = Files.createDirectory(tempDir.resolve("runs"));
+        ExternalSort<Integer> sorter = ExternalSort.<Integer>builder()
+                .codec(new IntegerCodec() {
+                    int writes;
+
+                    @Override
+                    public void write(Integer record, DataOutput out) throws IOException {
+                        if (++writes > 250) {
+                            throw new IOException("Disk full");
+                        }
+                        super.write(record, out);
+                    }
+                })
+                .memoryBudget(400)
+                .tempDirectory(runDir)
+                .build();
+
+        // Act
+        assertThrows(IOException.class, () -> sorter.sort(input, output));
+
+        // Assert
+        assertThat(listFiles(runDir), is(empty()));
+    }
+
+    Path write(Integer[] records) throws IOException {
+        Path input = tempDir.resolve("input.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(input))) {
+            for (Integer record : records) {
+                out.writeInt(record);
+            }
+        }
+        return input;
+    }
+
+    List<Integer> read(Path output) throws IOException {
+        List<Integer> records = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(output))) {
+            while (in.available() > 0) {
+                records.add(in.readInt());
+            }
+        }
+        return records;
+    }
+
+    List<Path> listFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    static class IntegerCodec implements RecordCodec<Integer> {
+        @Override
+        public void write(Integer record, DataOutput out) throws IOException {
+            out.writeInt(record);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+
+        @Override
+        public long sizeOf(Integer record) {
+            return Integer.BYTES;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class InstrumentedSortTest {
+
+    @Test
+    public void testMergeSort_ReportsComparisonsMovesAndDepth() {
+        // Arrange
+        InstrumentedSort<Integer> sort = new InstrumentedSort<>(MergeSort::new);
+        Integer[] input = new SortVendor(17).vendIntegers(1_000, 1_000);
+        Integer[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sort.sort(input);
+
+        // Assert
+        SortStats stats = sort.getLastStats();
+        assertThat(input, is(expected));
+        // At most nlog2(n) comparisons, and halving 1000 reaches insertion sort at size <= 7 on the 9th level
+        assertThat(stats.getComparisons(), greaterThan(0L));
+        assertThat(stats.getComparisons(), lessThanOrEqualTo(10_000L));
+        assertThat(stats.getMoves(), greaterThanOrEqualTo(1_000L));
+        assertThat(stats.getMaxDepth(), is(9));
+        assertThat(stats.getSwaps(), is(0L));
+        assertThat(stats.getPartitions(), is(0L));
+        assertThat(stats.getWallTimeNanos(), greaterThan(0L));
+    }
+
+    @Test
+    public void testQuickSort_ReportsSwapsAndPartitions() {
+        // Arrange
+        InstrumentedSort<Integer> sort = new InstrumentedSort<>(probe -> new QuickSort<>(new Random(3), probe));
+        Integer[] input = new SortVendor(23).vendIntegers(1_000, 1_000);
+
+        // Act
+        sort.sort(input);
+
+        // Assert
+        SortStats stats = sort.getLastStats();
+        assertThat(stats.getComparisons(), greaterThan(0L));
+        assertThat(stats.getSwaps(), greaterThan(0L));
+        assertThat(stats.getPartitions(), greaterThan(0L));
+        assertThat(stats.getMaxDepth(), greaterThan(0));
+        assertThat(stats.getWorstPartitionImbalance(), lessThanOrEqualTo(1.0));
+    }
+
+    @Test
+    public void testQuickSort_SortedInputWithFixedPivotIsMaximallyImbalanced() {
+        // Arrange
+        Random firstElement = new Random() {
+            @Override
+            public int nextInt(int bound) {
+                return 0;
+            }
+        };
+        InstrumentedSort<Integer> sort = new InstrumentedSort<>(probe -> new QuickSort<>(firstElement, probe));
+        Integer[] input = new Integer[] {1, 2, 3, 4, 5, 6, 7, 8};
+
+        // Act
+        sort.sort(input);
+
+        // Assert
+        SortStats stats = sort.getLastStats();
+        // 7 nested partitions of sizes 8 down to 2, then the base case of size 1
+        assertThat(stats.getMaxDepth(), is(8));
+        assertThat(stats.getMeanPartitionImbalance(), is(1.0));
+        assertThat(stats.getComparisons(), is(28L));
+    }
+
+    @Test
+    public void testSort_FreshStatsPerSort() {
+        // Arrange
+        InstrumentedSort<Integer> sort = new InstrumentedSort<>(MergeSort::new);
+
+        // Act
+        sort.sort(new Integer[] {3, 2, 1});
+        long first = sort.getLastStats().getComparisons();
+        sort.sort(new Integer[] {3, 2, 1});
+
+        // Assert
+        assertThat(sort.getLastStats().getComparisons(), is(first));
+    }
+
+    @Test
+    public void testSort_WrapsSortWithoutProbe() {
+        // Arrange
+        InstrumentedSort<Integer> sort = new InstrumentedSort<>(probe -> new HeapSort<>());
+        Integer[] input = new Integer[] {5, 1, 4, 2, 3};
+
+        // Act
+        sort.sort(input, 1, 3);
+
+        // Assert
+        assertThat(input, is(new Integer[] {5, 1, 2, 4, 3}));
+        assertThat(sort.getLastStats().getComparisons(), is(0L));
+    }
+
+    @Test
+    public void testGetLastStats_NullBeforeFirstSort() {
+        assertThat(new InstrumentedSort<Integer>(MergeSort::new).getLastStats(), is(nullValue()));
+    }
+}
@@ -0,0 +1,162 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class IntSortTest {
+
+    IntSort sorter;
+
+    Random random;
+
+    @BeforeEach
+    public void setup() {
+        random = new Random(17);
+        sorter = new IntSort(new Random());
+    }
+
+    @Test
+    public void testMergeSort() {
+        // Arrange
+        int[] input = new int[] {3, 2, 1, 4};
+        int[] expected = new int[] {1, 2, 3, 4};
+
+        // Act
+        sorter.mergeSort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testMergeSort_MatchesArraysSort_OnLargeInput() {
+        // Arrange
+        int[] input = vend(5_000, 100);
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.mergeSort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testMergeSortWithBuffer_ReusesBufferAcrossSorts() {
+        // Arrange
+        int[] buffer = new int[100];
+        int[] first = vend(100, 50), second = vend(60, 50);
+        int[] firstExpected = first.clone(), secondExpected = second.clone();
+        Arrays.sort(firstExpected);
+        Arrays.sort(secondExpected);
+
+        // Act
+        sorter.mergeSort(first, buffer);
+        sorter.mergeSort(second, buffer);
+
+        // Assert
+        assertThat(first, is(firstExpected));
+        assertThat(second, is(secondExpected));
+    }
+
+    @Test
+    public void testMergeSortWithBuffer_ThrowsException_WhenBufferTooSmall() {
+        // Arrange
+        int[] input = new int[] {3, 2, 1};
+        int[] buffer = new int[2];
+
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> sorter.mergeSort(input, buffer));
+    }
+
+    @Test
+    public void testQuickSort_WithDuplicates() {
+        // Arrange
+        int[] input = new int[] {1, 9, 1, 5, 3, 3};
+        int[] expected = new int[] {1, 1, 3, 3, 5, 9};
+
+        // Act
+        sorter.quickSort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testQuickSort_MatchesArraysSort_OnLargeInput() {
+        // Arrange
+        int[] input = vend(5_000, 1_000);
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.quickSort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSelect() {
+        // Arrange
+        int[] input = new int[] {5, 1, 2, 6, 0};
+        int k = 3;
+
+        // Act
+        int output = sorter.select(input, k);
+
+        // Assert
+        assertThat(output, is((int) 5));
+    }
+
+    @Test
+    public void testSelect_WithDupes() {
+        // Arrange
+        int[] input = new int[] {5, 5, 5, 1, 2};
+        int k = 1;
+
+        // Act
+        int output = sorter.select(input, k);
+
+        // Assert
+        assertThat(output, is((int) 2));
+    }
+
+    @Test
+    public void testPartition_SplitsAroundPivot_WithExtremeValues() {
+        // Arrange - a comparison done by subtraction would overflow on these
+        int[] input = vend(1_000, 50);
+        for (int i = 0; i < input.length; i += 10) {
+            input[i] = i % 20 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        }
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        int pivot = sorter.partition(input, 0, input.length - 1);
+
+        // Assert
+        for (int i = 0; i < input.length; i++) {
+            assertThat(i < pivot ? input[i] < input[pivot] : input[i] >= input[pivot], is(true));
+        }
+        int[] output = input.clone();
+        Arrays.sort(output);
+        assertThat(output, is(expected));
+    }
+
+    int[] vend(int length, int bound) {
+        int[] vals = new int[length];
+        for (int i = 0; i < length; i++) {
+            vals[i] = random.nextInt(bound) - bound / 2;
+        }
+        return vals;
+    }
+}
@@ -0,0 +1,120 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+public class IntroSortTest {
+
+    IntroSort<Integer> sorter;
+
+    SortVendor vendor;
+
+    @BeforeEach
+    public void setup() {
+        sorter = new IntroSort<>();
+        vendor = new SortVendor(5);
+    }
+
+    @Test
+    public void testSort() {
+        // Arrange
+        Integer[] input = new Integer[] {1, 4, 3, 9, 5};
+        Integer[] expected = new Integer[] {1, 3, 4, 5, 9};
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_WithDuplicates() {
+        // Arrange
+        Integer[] input = new Integer[] {1, 9, 1, 5, 3, 3};
+        Integer[] expected = new Integer[] {1, 1, 3, 3, 5, 9};
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_MatchesArraysSort_OnLargeInput() {
+        // Arrange
+        Integer[] input = vendor.vendIntegers(20_000, 1_000);
+        Integer[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_HandlesSortedReversedAndEqualInputs() {
+        // Arrange
+        int n = 200_000;
+        Integer[] sorted = new Integer[n], reversed = new Integer[n], equal = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+            reversed[i] = n - 1 - i;
+            equal[i] = 7;
+        }
+        Integer[] expectedEqual = equal.clone();
+
+        // Act
+        sorter.sort(reversed);
+        sorter.sort(equal);
+
+        // Assert
+        assertThat(reversed, is(sorted));
+        assertThat(equal, is(expectedEqual));
+    }
+
+    @Test
+    public void testSortHelper_FallsBackToHeapSort_WhenDepthExhausted() {
+        // Arrange
+        Integer[] input = vendor.vendIntegers(1_000, 100);
+        Integer[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.sort(input, 0, input.length - 1, 0);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testDepthLimit_IsTwiceLog2() {
+        // Assert
+        assertThat(IntroSort.depthLimit(1), is(0));
+        assertThat(IntroSort.depthLimit(1024), is(20));
+        assertThat(IntroSort.depthLimit(1500), is(20));
+    }
+
+    @Test
+    public void testPartition() {
+        // Arrange
+        // The median of 2, 1 and 5 is 2, so it's moved to its sorted position
+        Integer[] input = new Integer[] {2, 3, 1, 6, 5};
+        Integer[] expected = new Integer[] {1, 2, 3, 6, 5};
+
+        // Act
+        int pivot = sorter.partition(input, 0, input.length - 1);
+
+        // Assert
+        assertThat(pivot, is(1));
+        assertThat(input, is(expected));
+    }
+}
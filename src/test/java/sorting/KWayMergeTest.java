@@ -0,0 +1,151 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+public class KWayMergeTest {
+
+    KWayMerge<Integer> merger;
+
+    @BeforeEach
+    public void setup() {
+        merger = new KWayMerge<>();
+    }
+
+    @Test
+    public void testMerge_MergesSortedArrays() {
+        // Arrange
+        List<Integer[]> runs = List.of(
+                new Integer[] {1, 4, 7},
+                new Integer[] {},
+                new Integer[] {0, 2, 9},
+                new Integer[] {3});
+
+        // Act
+        Integer[] output = merger.merge(runs);
+
+        // Assert
+        assertThat(output, is(new Integer[] {0, 1, 2, 3, 4, 7, 9}));
+    }
+
+    @Test
+    public void testMerge_MatchesSort_ForManyRuns() {
+        // Arrange
+        SortVendor vendor = new SortVendor(53);
+        List<Integer[]> runs = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Integer[] run = vendor.vendIntegers(i * 3, 100);
+            Arrays.sort(run);
+            runs.add(run);
+            expected.addAll(Arrays.asList(run));
+        }
+        expected.sort(null);
+
+        // Act
+        Integer[] output = merger.merge(runs);
+
+        // Assert
+        assertThat(Arrays.asList(output), is(expected));
+    }
+
+    @Test
+    public void testMerge_IsStableAcrossRuns() {
+        // Arrange
+        KWayMerge<SortVendor.Keyed> keyedMerger = new KWayMerge<>();
+        List<SortVendor.Keyed[]> runs = List.of(
+                new SortVendor.Keyed[] {new SortVendor.Keyed(1, 0), new SortVendor.Keyed(2, 1)},
+                new SortVendor.Keyed[] {new SortVendor.Keyed(1, 2), new SortVendor.Keyed(2, 3)},
+                new SortVendor.Keyed[] {new SortVendor.Keyed(1, 4)});
+
+        // Act
+        SortVendor.Keyed[] output = keyedMerger.merge(runs);
+
+        // Assert
+        assertThat(SortVendor.isStablySorted(output), is(true));
+    }
+
+    @Test
+    public void testMerge_WithComparator() {
+        // Arrange
+        List<Integer[]> runs = List.of(new Integer[] {9, 5, 1}, new Integer[] {8, 2});
+
+        // Act
+        Integer[] output = merger.merge(runs, Comparator.reverseOrder());
+
+        // Assert
+        assertThat(output, is(new Integer[] {9, 8, 5, 2, 1}));
+    }
+
+    @Test
+    public void testMerge_IntoOutput_ThrowsOnLengthMismatch() {
+        // Arrange
+        List<Integer[]> runs = List.of(new Integer[] {1, 2}, new Integer[] {3});
+
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> merger.merge(runs, new Integer[2]));
+    }
+
+    @Test
+    public void testMerge_ThrowsWithNoRuns() {
+        assertThrows(IllegalArgumentException.class, () -> merger.merge(List.of()));
+    }
+
+    @Test
+    public void testIterator_PullsLazily() {
+        // Arrange
+        CountingIterator first = new CountingIterator(List.of(1, 3, 5).iterator());
+        CountingIterator second = new CountingIterator(List.of(2, 4, 6).iterator());
+
+        // Act
+        Iterator<Integer> merged = merger.iterator(List.of(first, second));
+        Integer head = merged.next();
+
+        // Assert - one element per source to fill the tree, plus one to replace the consumed head
+        assertThat(head, is(1));
+        assertThat(first.pulled + second.pulled, is(3));
+    }
+
+    @Test
+    public void testMergeIterator_MergesArrays() {
+        // Arrange
+        List<Integer[]> runs = List.of(new Integer[] {2, 6}, new Integer[] {1, 5}, new Integer[] {3, 4});
+
+        // Act
+        List<Integer> output = new ArrayList<>();
+        merger.mergeIterator(runs).forEachRemaining(output::add);
+
+        // Assert
+        assertThat(output, is(List.of(1, 2, 3, 4, 5, 6)));
+    }
+
+    private static class CountingIterator implements Iterator<Integer> {
+        private final Iterator<Integer> delegate;
+        private int pulled;
+
+        CountingIterator(Iterator<Integer> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public Integer next() {
+            pulled++;
+            return delegate.next();
+        }
+    }
+}
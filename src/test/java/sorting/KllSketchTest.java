@@ -0,0 +1,149 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Compares the sketch's answers against exact results from {@link QuickSelect}.
+ */
+public class KllSketchTest {
+
+    static final double[] QUANTILES = new double[] {0.0, 0.5, 0.9, 0.95, 0.99, 0.999, 1.0};
+
+    /**
+     * Allowed rank error as a fraction of n - about 3x the expected error for k = 200.
+     */
+    static final double EPSILON = 0.025;
+
+    Random random;
+
+    @BeforeEach
+    public void setup() {
+        random = new Random(101);
+    }
+
+    @Test
+    public void testQuantile_IsExact_WhenUnderCapacity() {
+        // Arrange
+        KllSketch sketch = new KllSketch(random);
+        Double[] values = new Double[] {5.0, 1.0, 4.0, 2.0, 3.0};
+
+        // Act
+        for (Double value : values) {
+            sketch.add(value);
+        }
+
+        // Assert
+        assertThat(sketch.quantile(0.0), is(1.0));
+        assertThat(sketch.quantile(0.5), is(3.0));
+        assertThat(sketch.quantile(1.0), is(5.0));
+    }
+
+    @Test
+    public void testQuantile_IsWithinRankError_ComparedToQuickSelect() {
+        // Arrange
+        int n = 200_000;
+        KllSketch sketch = new KllSketch(random);
+        Double[] values = new Double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = Math.exp(random.nextGaussian()); // Skewed, like latencies
+        }
+
+        // Act
+        for (Double value : values) {
+            sketch.add(value);
+        }
+
+        // Assert
+        assertWithinRankError(sketch, values);
+        assertThat(sketch.count(), is((long) n));
+        assertThat(sketch.retained(), lessThan(1_000)); // Bounded memory, independent of n
+    }
+
+    @Test
+    public void testRetained_TracksItemsAcrossCompactionsAndMerges() {
+        // Arrange - every value is in [1, 2). quantile copies exactly retained() items, so a count that's too high
+        // would leave 0.0s to be returned, and one that's too low would overflow.
+        KllSketch sketch = new KllSketch(16, random);
+        KllSketch other = new KllSketch(16, random);
+
+        // Act
+        for (int i = 0; i < 5_000; i++) {
+            sketch.add(1.0 + random.nextDouble());
+            other.add(1.0 + random.nextDouble());
+            if (i % 1_000 == 999) {
+                sketch.merge(other);
+            }
+        }
+
+        // Assert
+        // other is left unchanged by each merge, so it's merged in with 1000, 2000, ..., 5000 values
+        assertThat(sketch.count(), is(20_000L));
+        assertThat(sketch.quantile(0.0) >= 1.0, is(true));
+        assertThat(sketch.quantile(1.0) < 2.0, is(true));
+        assertThat(sketch.retained(), lessThan(200));
+    }
+
+    @Test
+    public void testMerge_IsWithinRankError_ComparedToQuickSelect() {
+        // Arrange
+        int workers = 8, perWorker = 25_000;
+        KllSketch merged = new KllSketch(random);
+        Double[] values = new Double[workers * perWorker];
+        for (int w = 0; w < workers; w++) {
+            KllSketch sketch = new KllSketch(random);
+            for (int i = 0; i < perWorker; i++) {
+                double value = w * 10 + random.nextDouble() * 100; // Each worker sees a shifted distribution
+                sketch.add(value);
+                values[w * perWorker + i] = value;
+            }
+            // Act
+            merged.merge(sketch);
+        }
+
+        // Assert
+        assertWithinRankError(merged, values);
+        assertThat(merged.count(), is((long) values.length));
+    }
+
+    @Test
+    public void testQuantile_ThrowsException_WhenEmptyOrOutOfRange() {
+        // Arrange
+        KllSketch sketch = new KllSketch(random);
+
+        // Act / Assert
+        assertThrows(IllegalStateException.class, () -> sketch.quantile(0.5));
+        sketch.add(1.0);
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+    }
+
+    /**
+     * Checks that the rank of each estimated quantile is within EPSILON * n of the rank of the exact quantile.
+     */
+    void assertWithinRankError(KllSketch sketch, Double[] values) {
+        int n = values.length;
+        int[] ranks = new int[QUANTILES.length];
+        for (int i = 0; i < QUANTILES.length; i++) {
+            ranks[i] = Math.max(0, (int) Math.ceil(QUANTILES[i] * n) - 1);
+        }
+        Double[] exact = new QuickSelect<Double>(random).select(values.clone(), ranks);
+        Double[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        for (int i = 0; i < QUANTILES.length; i++) {
+            double estimate = sketch.quantile(QUANTILES[i]);
+            int estimatedRank = Arrays.binarySearch(sorted, estimate);
+            int exactRank = Arrays.binarySearch(sorted, exact[i]);
+            assertThat(Math.abs(estimatedRank - exactRank), lessThanOrEqualTo((int) (EPSILON * n)));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class LongSortTest {
+
+    LongSort sorter;
+
+    Random random;
+
+    @BeforeEach
+    public void setup() {
+        random = new Random(17);
+        sorter = new LongSort(new Random());
+    }
+
+    @Test
+    public void testMergeSort() {
+        // Arrange
+        long[] input = new long[] {3, 2, 1, 4};
+        long[] expected = new long[] {1, 2, 3, 4};
+
+        // Act
+        sorter.mergeSort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testMergeSort_MatchesArraysSort_OnLargeInput() {
+        // Arrange
+        long[] input = vend(5_000, 100);
+        long[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.mergeSort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testMergeSortWithBuffer_ReusesBufferAcrossSorts() {
+        // Arrange
+        long[] buffer = new long[100];
+        long[] first = vend(100, 50), second = vend(60, 50);
+        long[] firstExpected = first.clone(), secondExpected = second.clone();
+        Arrays.sort(firstExpected);
+        Arrays.sort(secondExpected);
+
+        // Act
+        sorter.mergeSort(first, buffer);
+        sorter.mergeSort(second, buffer);
+
+        // Assert
+        assertThat(first, is(firstExpected));
+        assertThat(second, is(secondExpected));
+    }
+
+    @Test
+    public void testMergeSortWithBuffer_ThrowsException_WhenBufferTooSmall() {
+        // Arrange
+        long[] input = new long[] {3, 2, 1};
+        long[] buffer = new long[2];
+
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> sorter.mergeSort(input, buffer));
+    }
+
+    @Test
+    public void testQuickSort_WithDuplicates() {
+        // Arrange
+        long[] input = new long[] {1, 9, 1, 5, 3, 3};
+        long[] expected = new long[] {1, 1, 3, 3, 5, 9};
+
+        // Act
+        sorter.quickSort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testQuickSort_MatchesArraysSort_OnLargeInput() {
+        // Arrange
+        long[] input = vend(5_000, 1_000);
+        long[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.quickSort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSelect() {
+        // Arrange
+        long[] input = new long[] {5, 1, 2, 6, 0};
+        int k = 3;
+
+        // Act
+        long output = sorter.select(input, k);
+
+        // Assert
+        assertThat(output, is((long) 5));
+    }
+
+    @Test
+    public void testSelect_WithDupes() {
+        // Arrange
+        long[] input = new long[] {5, 5, 5, 1, 2};
+        int k = 1;
+
+        // Act
+        long output = sorter.select(input, k);
+
+        // Assert
+        assertThat(output, is((long) 2));
+    }
+
+    @Test
+    public void testPartition_SplitsAroundPivot_WithValuesBeyondIntRange() {
+        // Arrange
+        long[] input = new long[1_000];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = random.nextLong();
+        }
+        long[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        int pivot = sorter.partition(input, 0, input.length - 1);
+
+        // Assert
+        for (int i = 0; i < input.length; i++) {
+            assertThat(i < pivot ? input[i] < input[pivot] : input[i] >= input[pivot], is(true));
+        }
+        long[] output = input.clone();
+        Arrays.sort(output);
+        assertThat(output, is(expected));
+    }
+
+    long[] vend(int length, int bound) {
+        long[] vals = new long[length];
+        for (int i = 0; i < length; i++) {
+            vals[i] = ((long) random.nextInt(bound) - bound / 2) << 32;
+        }
+        return vals;
+    }
+}
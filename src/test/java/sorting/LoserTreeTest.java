@@ -0,0 +1,96 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class LoserTreeTest {
+
+    @Test
+    public void testNext_MergesSortedSources() {
+        // Arrange
+        List<Iterator<Integer>> sources = List.of(
+                List.of(1, 4, 7).iterator(),
+                List.of(2, 5).iterator(),
+                Collections.<Integer>emptyIterator(),
+                List.of(0, 3, 6, 8).iterator());
+        LoserTree<Integer> tree = new LoserTree<>(sources);
+
+        // Act
+        List<Integer> output = drain(tree);
+
+        // Assert
+        assertThat(output, is(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8)));
+    }
+
+    @Test
+    public void testNext_MatchesSort_ForManySources() {
+        // Arrange
+        SortVendor vendor = new SortVendor(41);
+        List<Iterator<Integer>> sources = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 13; i++) {
+            Integer[] source = vendor.vendIntegers(i * 7, 50);
+            Arrays.sort(source);
+            sources.add(Arrays.asList(source).iterator());
+            expected.addAll(Arrays.asList(source));
+        }
+        Collections.sort(expected);
+
+        // Act
+        List<Integer> output = drain(new LoserTree<>(sources));
+
+        // Assert
+        assertThat(output, is(expected));
+    }
+
+    @Test
+    public void testNext_BreaksTiesBySourceOrder() {
+        // Arrange
+        List<Iterator<SortVendor.Keyed>> sources = List.of(
+                List.of(new SortVendor.Keyed(1, 0), new SortVendor.Keyed(2, 1)).iterator(),
+                List.of(new SortVendor.Keyed(1, 2), new SortVendor.Keyed(2, 3)).iterator(),
+                List.of(new SortVendor.Keyed(1, 4)).iterator());
+
+        // Act
+        List<SortVendor.Keyed> output = drain(new LoserTree<>(sources));
+
+        // Assert
+        assertThat(SortVendor.isStablySorted(output.toArray(new SortVendor.Keyed[0])), is(true));
+    }
+
+    @Test
+    public void testNext_ThrowsException_WhenExhausted() {
+        // Arrange
+        LoserTree<Integer> tree = new LoserTree<>(List.of(List.of(1).iterator()));
+        tree.next();
+
+        // Act / Assert
+        assertThat(tree.hasNext(), is(false));
+        assertThrows(NoSuchElementException.class, tree::next);
+    }
+
+    @Test
+    public void testHasNext_ReturnsFalse_WhenNoSources() {
+        // Act
+        LoserTree<Integer> tree = new LoserTree<>(List.of());
+
+        // Assert
+        assertThat(tree.hasNext(), is(false));
+    }
+
+    <E> List<E> drain(Iterator<E> it) {
+        List<E> output = new ArrayList<>();
+        it.forEachRemaining(output::add);
+        return output;
+    }
+}
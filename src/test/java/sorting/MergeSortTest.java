@@ -2,10 +2,14 @@ package sorting;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Comparator;
+
 public class MergeSortTest {
 
     MergeSort<Integer> sorter;
@@ -54,4 +58,107 @@ public class MergeSortTest {
         // Assert
         assertThat(input, is(expected));
     }
+
+    @Test
+    public void testSort_IsStable() {
+        // Arrange
+        MergeSort<SortVendor.Keyed> keyedSorter = new MergeSort<>();
+        SortVendor.Keyed[] input = new SortVendor(7).vendKeyed(1_000, 10);
+
+        // Act
+        keyedSorter.sort(input);
+
+        // Assert
+        assertThat(SortVendor.isStablySorted(input), is(true));
+    }
+
+    @Test
+    public void testSort_SortsMixedSubclasses() {
+        // Arrange
+        // The first element being a subclass shouldn't dictate the type of the auxiliary array
+        MergeSort<SortVendor.Keyed> keyedSorter = new MergeSort<>();
+        SortVendor.Keyed[] input = new SortVendor.Keyed[] {
+                new SortVendor.Keyed(3, 0) { }, new SortVendor.Keyed(1, 1), new SortVendor.Keyed(2, 2)
+        };
+
+        // Act
+        keyedSorter.sort(input);
+
+        // Assert
+        assertThat(SortVendor.isStablySorted(input), is(true));
+    }
+
+    @Test
+    public void testSortWithBuffer_ReusesBufferAcrossSorts() {
+        // Arrange
+        SortVendor vendor = new SortVendor(11);
+        Integer[] buffer = new Integer[100];
+        Integer[] first = vendor.vendIntegers(100, 50);
+        Integer[] second = vendor.vendIntegers(60, 50);
+        Integer[] firstExpected = first.clone(), secondExpected = second.clone();
+        Arrays.sort(firstExpected);
+        Arrays.sort(secondExpected);
+
+        // Act
+        sorter.sort(first, buffer);
+        sorter.sort(second, buffer);
+
+        // Assert
+        assertThat(first, is(firstExpected));
+        assertThat(second, is(secondExpected));
+    }
+
+    @Test
+    public void testSortWithBuffer_ThrowsException_WhenBufferTooSmall() {
+        // Arrange
+        Integer[] input = new Integer[] {3, 2, 1};
+        Integer[] buffer = new Integer[2];
+
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(input, buffer));
+    }
+
+    @Test
+    public void testSortWithComparator_SortsInComparatorOrder() {
+        // Arrange
+        Integer[] input = new Integer[] {3, 1, 4, 1, 5};
+        Integer[] expected = new Integer[] {5, 4, 3, 1, 1};
+
+        // Act
+        sorter.sort(input, Comparator.reverseOrder());
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSortByIntKey_IsStable_AndExtractsEachKeyOnce() {
+        // Arrange
+        MergeSort<SortVendor.Keyed> keyedSorter = new MergeSort<>();
+        SortVendor.Keyed[] input = new SortVendor(107).vendKeyed(1_000, 10);
+        int[] extractions = new int[1];
+
+        // Act
+        keyedSorter.sortByIntKey(input, keyed -> {
+            extractions[0]++;
+            return keyed.key;
+        });
+
+        // Assert
+        assertThat(SortVendor.isStablySorted(input), is(true));
+        assertThat(extractions[0], is(input.length));
+    }
+
+    @Test
+    public void testSortByLongKey_IsStable() {
+        // Arrange
+        MergeSort<SortVendor.Keyed> keyedSorter = new MergeSort<>();
+        SortVendor.Keyed[] input = new SortVendor(109).vendKeyed(1_000, 10);
+
+        // Act
+        keyedSorter.sortByLongKey(input, keyed -> (long) keyed.key << 40);
+
+        // Assert
+        assertThat(SortVendor.isStablySorted(input), is(true));
+    }
 }
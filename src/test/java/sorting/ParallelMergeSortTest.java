@@ -0,0 +1,112 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelMergeSortTest {
+
+    ForkJoinPool pool;
+
+    ParallelMergeSort<Integer> sorter;
+
+    SortVendor vendor;
+
+    @BeforeEach
+    public void setup() {
+        pool = new ForkJoinPool(4);
+        // Use a tiny threshold so that even small inputs are split into parallel tasks
+        sorter = new ParallelMergeSort<>(pool, 4);
+        vendor = new SortVendor(42);
+    }
+
+    @AfterEach
+    public void teardown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSort() {
+        // Arrange
+        Integer[] input = new Integer[] {3, 2, 1, 4};
+        Integer[] expected = new Integer[] {1, 2, 3, 4};
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_SortsDuplicates() {
+        // Arrange
+        Integer[] input = new Integer[] {1, 5, 5, 3, 5, 2, 3};
+        Integer[] expected = new Integer[] {1, 2, 3, 3, 5, 5, 5};
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_SortsWithThresholdOfOne() {
+        // Arrange
+        sorter = new ParallelMergeSort<>(pool, 1);
+        Integer[] input = new Integer[] {3, 1, 2, 5, 4, 4, 0};
+        Integer[] expected = new Integer[] {0, 1, 2, 3, 4, 4, 5};
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_HandlesEmptyList() {
+        // Arrange
+        Integer[] input = new Integer[0];
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input.length, is(0));
+    }
+
+    @Test
+    public void testSort_MatchesArraysSort_OnLargeInput() {
+        // Arrange
+        Integer[] input = vendor.vendIntegers(10_000, 1_000);
+        Integer[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_IsStable() {
+        // Arrange
+        ParallelMergeSort<SortVendor.Keyed> keyedSorter = new ParallelMergeSort<>(pool, 4);
+        SortVendor.Keyed[] input = vendor.vendKeyed(5_000, 10);
+
+        // Act
+        keyedSorter.sort(input);
+
+        // Assert
+        assertThat(SortVendor.isStablySorted(input), is(true));
+    }
+}
@@ -0,0 +1,87 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelQuickSortTest {
+
+    ForkJoinPool pool;
+
+    ParallelQuickSort<Integer> sorter;
+
+    SortVendor vendor;
+
+    @BeforeEach
+    public void setup() {
+        pool = new ForkJoinPool(4);
+        // Use a tiny threshold so that even small inputs are split into parallel tasks
+        sorter = new ParallelQuickSort<>(pool, 4);
+        vendor = new SortVendor(103);
+    }
+
+    @AfterEach
+    public void teardown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSort() {
+        // Arrange
+        Integer[] input = new Integer[] {1, 4, 3, 9, 5};
+        Integer[] expected = new Integer[] {1, 3, 4, 5, 9};
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_WithDuplicates() {
+        // Arrange
+        Integer[] input = new Integer[] {1, 9, 1, 5, 3, 3};
+        Integer[] expected = new Integer[] {1, 1, 3, 3, 5, 9};
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_MatchesArraysSort_OnLargeInput() {
+        // Arrange
+        Integer[] input = vendor.vendIntegers(50_000, 10_000);
+        Integer[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_HandlesLowCardinalityInput_WithDefaultSettings() {
+        // Arrange
+        Integer[] input = vendor.vendIntegers(100_000, 3);
+        Integer[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        new ParallelQuickSort<Integer>().sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+}
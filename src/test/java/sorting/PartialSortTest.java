@@ -0,0 +1,106 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class PartialSortTest {
+
+    PartialSort<Integer> sorter;
+
+    @BeforeEach
+    public void setup() {
+        sorter = new PartialSort<>(new Random());
+    }
+
+    @Test
+    public void testPartialSort_SortsSmallestPrefix() {
+        // Arrange
+        Integer[] input = new Integer[] {9, 4, 7, 1, 8, 2, 6};
+        Integer[] expectedPrefix = new Integer[] {1, 2, 4};
+        int k = 3;
+
+        // Act
+        sorter.partialSort(input, k);
+
+        // Assert
+        assertThat(Arrays.copyOfRange(input, 0, k), is(expectedPrefix));
+    }
+
+    @Test
+    public void testPartialSort_MatchesFullSort_OnLargeInput() {
+        // Arrange
+        Integer[] input = new SortVendor(83).vendIntegers(10_000, 300);
+        Integer[] sorted = input.clone();
+        Arrays.sort(sorted);
+        int k = 250;
+
+        // Act
+        sorter.partialSort(input, k);
+
+        // Assert
+        assertThat(Arrays.copyOfRange(input, 0, k), is(Arrays.copyOfRange(sorted, 0, k)));
+        Integer[] rest = Arrays.copyOfRange(input, k, input.length);
+        Arrays.sort(rest);
+        assertThat(rest, is(Arrays.copyOfRange(sorted, k, sorted.length))); // Nothing is lost
+    }
+
+    @Test
+    public void testPartialSort_HandlesFewDistinctValues() {
+        // Arrange - a select that sends every duplicate of the pivot to one side would take O(n^2) here
+        Integer[] input = new SortVendor(97).vendIntegers(100_000, 3);
+        Integer[] sorted = input.clone();
+        Arrays.sort(sorted);
+        int k = 50_000;
+
+        // Act
+        sorter.partialSort(input, k);
+
+        // Assert
+        assertThat(Arrays.copyOfRange(input, 0, k), is(Arrays.copyOfRange(sorted, 0, k)));
+    }
+
+    @Test
+    public void testPartialSortLargest_SortsLargestSuffix() {
+        // Arrange
+        Integer[] input = new SortVendor(89).vendIntegers(5_000, 1_000);
+        Integer[] sorted = input.clone();
+        Arrays.sort(sorted);
+        int k = 100, start = input.length - k;
+
+        // Act
+        sorter.partialSortLargest(input, k);
+
+        // Assert
+        assertThat(Arrays.copyOfRange(input, start, input.length),
+                is(Arrays.copyOfRange(sorted, start, sorted.length)));
+    }
+
+    @Test
+    public void testPartialSort_SortsWholeList_WhenKIsLength() {
+        // Arrange
+        Integer[] input = new Integer[] {3, 1, 2};
+        Integer[] expected = new Integer[] {1, 2, 3};
+
+        // Act
+        sorter.partialSort(input, input.length);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testPartialSort_ThrowsException_WhenKOutOfBounds() {
+        // Arrange
+        Integer[] input = new Integer[] {3, 1, 2};
+
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> sorter.partialSort(input, 4));
+    }
+}
@@ -0,0 +1,106 @@
+package sorting;
+
+import static benchmark.Benchmark.medianNanos;
+import static benchmark.Benchmark.report;
+import static benchmark.Benchmark.retainedBytes;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Compares {@link IntSort}, {@link LongSort} and {@link DoubleSort} against the generic sorts on the boxed
+ * equivalents of the same values. Run with `gradle benchmark`.
+ */
+@Tag("benchmark")
+public class PrimitiveSortBenchmark {
+
+    static final int LENGTH = 1_000_000;
+
+    int[] ints;
+
+    @BeforeEach
+    public void setup() {
+        Random random = new Random(5);
+        ints = new int[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            ints[i] = random.nextInt();
+        }
+    }
+
+    @Test
+    public void benchmarkQuickSort() {
+        QuickSort<Integer> boxed = new QuickSort<>(new Random(7));
+        IntSort intSort = new IntSort(new Random(7));
+        LongSort longSort = new LongSort(new Random(7));
+        DoubleSort doubleSort = new DoubleSort(new Random(7));
+        long[] longs = Arrays.stream(ints).asLongStream().toArray();
+        double[] doubles = Arrays.stream(ints).asDoubleStream().toArray();
+
+        report("quickSort 1M", "QuickSort<Integer>", "ms", millis(medianNanos(this::boxed, list -> {
+            boxed.sort(list);
+            return list[LENGTH / 2];
+        })));
+        report("quickSort 1M", "IntSort", "ms", millis(medianNanos(ints::clone, list -> {
+            intSort.quickSort(list);
+            return list[LENGTH / 2];
+        })));
+        report("quickSort 1M", "LongSort", "ms", millis(medianNanos(longs::clone, list -> {
+            longSort.quickSort(list);
+            return list[LENGTH / 2];
+        })));
+        report("quickSort 1M", "DoubleSort", "ms", millis(medianNanos(doubles::clone, list -> {
+            doubleSort.quickSort(list);
+            return (long) list[LENGTH / 2];
+        })));
+    }
+
+    @Test
+    public void benchmarkMergeSort() {
+        MergeSort<Integer> boxed = new MergeSort<>();
+        IntSort intSort = new IntSort(new Random(7));
+
+        report("mergeSort 1M", "MergeSort<Integer>", "ms", millis(medianNanos(this::boxed, list -> {
+            boxed.sort(list);
+            return list[LENGTH / 2];
+        })));
+        report("mergeSort 1M", "IntSort", "ms", millis(medianNanos(ints::clone, list -> {
+            intSort.mergeSort(list);
+            return list[LENGTH / 2];
+        })));
+    }
+
+    @Test
+    public void benchmarkSelect() {
+        QuickSelect<Integer> boxed = new QuickSelect<>(new Random(7));
+        IntSort intSort = new IntSort(new Random(7));
+
+        report("select median 1M", "QuickSelect<Integer>", "ms",
+                millis(medianNanos(this::boxed, list -> boxed.select(list, LENGTH / 2))));
+        report("select median 1M", "IntSort", "ms",
+                millis(medianNanos(ints::clone, list -> intSort.select(list, LENGTH / 2))));
+    }
+
+    @Test
+    public void benchmarkFootprint() {
+        // Values outside the Integer cache, so that every element of the boxed array is its own object
+        long boxedBytes = retainedBytes(this::boxed), primitiveBytes = retainedBytes(ints::clone);
+
+        report("footprint 1M", "Integer[]", "bytes/element", boxedBytes / (double) LENGTH);
+        report("footprint 1M", "int[]", "bytes/element", primitiveBytes / (double) LENGTH);
+        assertThat(boxedBytes > primitiveBytes, is(true));
+    }
+
+    Integer[] boxed() {
+        return Arrays.stream(ints).boxed().toArray(Integer[]::new);
+    }
+
+    static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
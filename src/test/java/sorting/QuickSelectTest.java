@@ -2,10 +2,13 @@ package sorting;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Random;
 
 public class QuickSelectTest {
@@ -41,4 +44,192 @@ public class QuickSelectTest {
         // Assert
         assertThat(output, is(expected));
     }
+
+    @Test
+    public void testIntroSelect() {
+        // Arrange
+        Integer[] input = new Integer[] {5, 1, 2, 6, 0};
+        int k = 3, expected = 5;
+
+        // Act
+        Integer output = quickSelect.introSelect(input, k);
+
+        // Assert
+        assertThat(output, is(expected));
+    }
+
+    @Test
+    public void testIntroSelect_MatchesSortedOrder_ForEveryRank() {
+        // Arrange
+        Integer[] input = new SortVendor(67).vendIntegers(500, 100);
+        Integer[] sorted = input.clone();
+        Arrays.sort(sorted);
+
+        for (int k = 0; k < input.length; k++) {
+            // Act
+            Integer output = quickSelect.introSelect(input.clone(), k);
+
+            // Assert
+            assertThat(output, is(sorted[k]));
+        }
+    }
+
+    @Test
+    public void testIntroSelect_HandlesAllDuplicates() {
+        // Arrange
+        Integer[] input = new Integer[100_000];
+        Arrays.fill(input, 3);
+
+        // Act
+        Integer output = quickSelect.introSelect(input, 50_000);
+
+        // Assert
+        assertThat(output, is(3));
+    }
+
+    @Test
+    public void testIntroSelect_HandlesSortedInput() {
+        // Arrange
+        Integer[] input = new Integer[100_000];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = i;
+        }
+
+        // Act
+        Integer output = quickSelect.introSelect(input, 99_999);
+
+        // Assert
+        assertThat(output, is(99_999));
+    }
+
+    @Test
+    public void testSelectIndex_UsesMedianOfMediansPivots() {
+        // Arrange
+        Integer[] input = new SortVendor(71).vendIntegers(1_000, 1_000);
+        Integer[] sorted = input.clone();
+        Arrays.sort(sorted);
+        int k = 123;
+
+        // Act
+        int output = quickSelect.selectIndex(input, 0, input.length - 1, k);
+
+        // Assert
+        assertThat(output, is(k));
+        assertThat(input[k], is(sorted[k]));
+    }
+
+    @Test
+    public void testMedianOfMedians_DiscardsAtLeastThirtyPercent() {
+        // Arrange
+        int n = 1_000;
+        Integer[] input = new SortVendor(73).vendIntegers(n, Integer.MAX_VALUE);
+        Integer[] sorted = input.clone();
+        Arrays.sort(sorted);
+
+        // Act
+        Integer pivot = input[quickSelect.medianOfMedians(input, 0, n - 1)];
+
+        // Assert
+        int rank = Arrays.binarySearch(sorted, pivot);
+        assertThat(rank >= 3 * n / 10 - 5 && rank <= 7 * n / 10 + 5, is(true));
+    }
+
+    @Test
+    public void testSelectRanks_ReturnsElementAtEachRank() {
+        // Arrange
+        Integer[] input = new SortVendor(79).vendIntegers(10_000, 500);
+        Integer[] sorted = input.clone();
+        Arrays.sort(sorted);
+        int[] ranks = new int[] {0, 5_000, 9_000, 9_500, 9_900, 9_990, 9_999};
+
+        // Act
+        Integer[] output = quickSelect.select(input, ranks);
+
+        // Assert
+        for (int i = 0; i < ranks.length; i++) {
+            assertThat(output[i], is(sorted[ranks[i]]));
+            assertThat(input[ranks[i]], is(sorted[ranks[i]]));
+        }
+    }
+
+    @Test
+    public void testSelectRanks_HandlesRepeatedRanksAndDupes() {
+        // Arrange
+        Integer[] input = new Integer[] {5, 5, 5, 1, 2, 5, 0};
+        int[] ranks = new int[] {1, 1, 4, 6};
+        Integer[] expected = new Integer[] {1, 1, 5, 5};
+
+        // Act
+        Integer[] output = quickSelect.select(input, ranks);
+
+        // Assert
+        assertThat(output, is(expected));
+    }
+
+    @Test
+    public void testSelectRanks_ThrowsException_WhenRanksInvalid() {
+        // Arrange
+        Integer[] input = new Integer[] {3, 1, 2};
+
+        // Act / Assert
+        assertThrows(IllegalArgumentException.class, () -> quickSelect.select(input, new int[] {2, 1}));
+        assertThrows(IllegalArgumentException.class, () -> quickSelect.select(input, new int[] {3}));
+    }
+
+    @Test
+    public void testSelectWithComparator_SelectsInComparatorOrder() {
+        // Arrange
+        Integer[] input = new Integer[] {5, 1, 2, 6, 0};
+        int k = 0, expected = 6;
+
+        // Act
+        Integer output = quickSelect.select(input, k, Comparator.reverseOrder());
+
+        // Assert
+        assertThat(output, is(expected));
+    }
+
+    @Test
+    public void testSelectByIntKey_SelectsByExtractedKey() {
+        // Arrange
+        QuickSelect<String> stringSelect = new QuickSelect<>(new Random());
+        String[] input = new String[] {"ccc", "a", "bb", "dddd", ""};
+
+        // Act
+        String output = stringSelect.selectByIntKey(input, 3, String::length);
+
+        // Assert
+        assertThat(output, is("ccc"));
+    }
+
+    @Test
+    public void testSelectByLongKey_MatchesSortedOrder() {
+        // Arrange
+        QuickSelect<SortVendor.Keyed> keyedSelect = new QuickSelect<>(new Random());
+        SortVendor.Keyed[] input = new SortVendor(127).vendKeyed(1_000, 100);
+        int[] sortedKeys = Arrays.stream(input).mapToInt(keyed -> keyed.key).sorted().toArray();
+        int k = 600;
+
+        // Act
+        SortVendor.Keyed output = keyedSelect.selectByLongKey(input, k, keyed -> keyed.key);
+
+        // Assert
+        assertThat(output.key, is(sortedKeys[k]));
+    }
+
+    @Test
+    public void testIntroSelect_ReportsToProbe() {
+        // Arrange
+        SortStats stats = new SortStats();
+        QuickSelect<Integer> probedSelect = new QuickSelect<>(new Random(), stats);
+        Integer[] input = new SortVendor(31).vendIntegers(1_000, 1_000);
+
+        // Act
+        probedSelect.introSelect(input, 500);
+
+        // Assert
+        assertThat(stats.getComparisons() > 0, is(true));
+        assertThat(stats.getPartitions() > 0, is(true));
+        assertThat(stats.getSwaps() > 0, is(true));
+    }
 }
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Comparator;
 import java.util.Random;
 
 @ExtendWith(MockitoExtension.class)
@@ -70,4 +71,46 @@ public class QuickSortTest {
         // Assert
         assertThat(input, is(expected));
     }
+
+    @Test
+    public void testSortWithComparator_SortsInComparatorOrder() {
+        // Arrange
+        Integer[] input = new Integer[] {1, 4, 3, 9, 5};
+        Integer[] expected = new Integer[] {9, 5, 4, 3, 1};
+
+        // Act
+        sorter.sort(input, Comparator.reverseOrder());
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSortByIntKey_SortsByExtractedKey() {
+        // Arrange
+        QuickSort<String> stringSorter = new QuickSort<>(new Random());
+        String[] input = new String[] {"ccc", "a", "bb", "dddd", ""};
+        String[] expected = new String[] {"", "a", "bb", "ccc", "dddd"};
+
+        // Act
+        stringSorter.sortByIntKey(input, String::length);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSortByLongKey_SortsByNegatedKey() {
+        // Arrange
+        QuickSort<SortVendor.Keyed> keyedSorter = new QuickSort<>(new Random());
+        SortVendor.Keyed[] input = new SortVendor(113).vendKeyed(2_000, 500);
+
+        // Act
+        keyedSorter.sortByLongKey(input, keyed -> -(long) keyed.key);
+
+        // Assert
+        for (int i = 1; i < input.length; i++) {
+            assertThat(input[i - 1].key >= input[i].key, is(true));
+        }
+    }
 }
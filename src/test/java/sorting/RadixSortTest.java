@@ -0,0 +1,119 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class RadixSortTest {
+
+    RadixSort sorter;
+
+    Random random;
+
+    @BeforeEach
+    public void setup() {
+        sorter = new RadixSort();
+        random = new Random(23);
+    }
+
+    @Test
+    public void testSortInts() {
+        // Arrange
+        int[] input = new int[] {3, -2, 1, Integer.MIN_VALUE, 0, Integer.MAX_VALUE, -1};
+        int[] expected = new int[] {Integer.MIN_VALUE, -2, -1, 0, 1, 3, Integer.MAX_VALUE};
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSortInts_MatchesArraysSort_OnLargeInput() {
+        // Arrange
+        int[] input = random.ints(10_000).toArray();
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSortInts_SkipsPasses_WhenUpperDigitsAreShared() {
+        // Arrange
+        // Only the lowest digit varies, so there's a single pass and the output lands in the buffer first
+        int[] input = random.ints(1_000, 0, 256).toArray();
+        int[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSortLongs() {
+        // Arrange
+        long[] input = new long[] {3L, -2L, Long.MAX_VALUE, 1L << 40, Long.MIN_VALUE, -(1L << 40)};
+        long[] expected = new long[] {Long.MIN_VALUE, -(1L << 40), -2L, 3L, 1L << 40, Long.MAX_VALUE};
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSortLongs_MatchesArraysSort_OnLargeInput() {
+        // Arrange
+        long[] input = random.longs(10_000).toArray();
+        long[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSortByIntKey_IsStable() {
+        // Arrange
+        SortVendor.Keyed[] input = new SortVendor(29).vendKeyed(2_000, 10);
+        for (int i = 0; i < input.length; i += 3) {
+            input[i] = new SortVendor.Keyed(-input[i].key, input[i].id); // Mix in some negative keys
+        }
+
+        // Act
+        sorter.sortByIntKey(input, keyed -> keyed.key);
+
+        // Assert
+        assertThat(SortVendor.isStablySorted(input), is(true));
+    }
+
+    @Test
+    public void testSortByLongKey_IsStable() {
+        // Arrange
+        SortVendor.Keyed[] input = new SortVendor(31).vendKeyed(2_000, 10);
+
+        // Act
+        sorter.sortByLongKey(input, keyed -> (long) keyed.key << 33);
+
+        // Assert
+        assertThat(SortVendor.isStablySorted(input), is(true));
+    }
+}
@@ -0,0 +1,64 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+public class SortStatsTest {
+
+    @Test
+    public void testEnterExit_TracksMaxDepth() {
+        // Arrange
+        SortStats stats = new SortStats();
+
+        // Act
+        stats.enter();
+        stats.enter();
+        stats.exit();
+        stats.enter();
+        stats.enter();
+        stats.exit();
+        stats.exit();
+        stats.exit();
+
+        // Assert
+        assertThat(stats.getMaxDepth(), is(3));
+    }
+
+    @Test
+    public void testOnPartition_TracksMeanAndWorstImbalance() {
+        // Arrange
+        SortStats stats = new SortStats();
+
+        // Act
+        stats.onPartition(5, 5);
+        stats.onPartition(0, 10);
+        stats.onPartition(0, 0);
+
+        // Assert
+        assertThat(stats.getPartitions(), is(3L));
+        assertThat(stats.getWorstPartitionImbalance(), closeTo(1.0, 1e-9));
+        assertThat(stats.getMeanPartitionImbalance(), closeTo(1.0 / 3, 1e-9));
+    }
+
+    @Test
+    public void testCounters() {
+        // Arrange
+        SortStats stats = new SortStats();
+
+        // Act
+        stats.onCompare();
+        stats.onCompare();
+        stats.onSwap();
+        stats.onMove(4);
+        stats.onMove(3);
+
+        // Assert
+        assertThat(stats.getComparisons(), is(2L));
+        assertThat(stats.getSwaps(), is(1L));
+        assertThat(stats.getMoves(), is(7L));
+        assertThat(stats.getMeanPartitionImbalance(), is(0.0));
+    }
+}
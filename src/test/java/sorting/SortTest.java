@@ -0,0 +1,90 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Checks the {@link Sort} contract for range sorting against every implementation.
+ */
+public class SortTest {
+
+    ForkJoinPool pool;
+
+    List<Sort<Integer>> sorters;
+
+    @BeforeEach
+    public void setup() {
+        pool = new ForkJoinPool(2);
+        sorters = List.of(
+                new MergeSort<>(),
+                new QuickSort<>(new Random()),
+                new ThreeWayQuickSort<>(new Random()),
+                new HeapSort<>(),
+                new IntroSort<>(),
+                new TimSort<>(),
+                new ParallelMergeSort<>(pool, 16),
+                new ParallelQuickSort<>(pool, 16));
+    }
+
+    @AfterEach
+    public void teardown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSortRange_OnlySortsWithinRange() {
+        // Arrange
+        Integer[] original = new SortVendor(131).vendIntegers(1_000, 100);
+        int left = 100, right = 799;
+        Integer[] expected = original.clone();
+        Arrays.sort(expected, left, right + 1);
+
+        for (Sort<Integer> sorter : sorters) {
+            Integer[] input = original.clone();
+
+            // Act
+            sorter.sort(input, left, right);
+
+            // Assert
+            assertThat(sorter.getClass().getSimpleName(), input, is(expected));
+        }
+    }
+
+    @Test
+    public void testSortRange_AllowsEmptyRange() {
+        for (Sort<Integer> sorter : sorters) {
+            // Arrange
+            Integer[] input = new Integer[] {3, 2, 1};
+            Integer[] expected = input.clone();
+
+            // Act
+            sorter.sort(input, 2, 1);
+
+            // Assert
+            assertThat(sorter.getClass().getSimpleName(), input, is(expected));
+        }
+    }
+
+    @Test
+    public void testSortRange_ThrowsException_WhenOutOfBounds() {
+        for (Sort<Integer> sorter : sorters) {
+            // Arrange
+            Integer[] input = new Integer[] {3, 2, 1};
+
+            // Act / Assert
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(input, -1, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(input, 0, 3));
+            assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(input, 2, 0));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package sorting;
+
+import java.util.Random;
+
+/**
+ * Utility class to construct inputs for testing the sorting algorithms.
+ */
+public class SortVendor {
+
+    private final Random random;
+
+    public SortVendor(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Create an array of the given length with values drawn from [0, bound).
+     * A small bound is useful for generating lots of duplicates.
+     */
+    public Integer[] vendIntegers(int length, int bound) {
+        Integer[] vals = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            vals[i] = random.nextInt(bound);
+        }
+        return vals;
+    }
+
+    /**
+     * Create an array of {@link Keyed} elements with keys drawn from [0, bound). Each element's id is its original
+     * index, which can be used to verify stability after sorting.
+     */
+    public Keyed[] vendKeyed(int length, int bound) {
+        Keyed[] vals = new Keyed[length];
+        for (int i = 0; i < length; i++) {
+            vals[i] = new Keyed(random.nextInt(bound), i);
+        }
+        return vals;
+    }
+
+    /**
+     * Element that's only compared by its key. The id is ignored for comparisons so that equal keys can still be told
+     * apart when verifying stability.
+     */
+    public static class Keyed implements Comparable<Keyed> {
+        final int key;
+        final int id;
+
+        public Keyed(int key, int id) {
+            this.key = key;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Keyed other) {
+            return Integer.compare(key, other.key);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + key + ", " + id + ")";
+        }
+    }
+
+    /**
+     * @return whether the list is sorted by key, and elements with equal keys are ordered by their original ids.
+     */
+    public static boolean isStablySorted(Keyed[] list) {
+        for (int i = 1; i < list.length; i++) {
+            Keyed prev = list[i - 1], curr = list[i];
+            if (prev.key > curr.key || (prev.key == curr.key && prev.id > curr.id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
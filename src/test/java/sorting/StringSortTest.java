@@ -0,0 +1,124 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class StringSortTest {
+
+    StringSort sorter;
+
+    @BeforeEach
+    public void setup() {
+        sorter = new StringSort(new Random());
+    }
+
+    @Test
+    public void testSort() {
+        // Arrange
+        String[] input = new String[] {"she", "sells", "seashells", "by", "the", "sea", "shore"};
+        String[] expected = new String[] {"by", "sea", "seashells", "sells", "she", "shore", "the"};
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_PrefixesAndEmptyStringsSortFirst() {
+        // Arrange
+        String[] input = new String[] {"abc", "", "ab", "abcd", "a", "", "ab"};
+        String[] expected = new String[] {"", "", "a", "ab", "ab", "abc", "abcd"};
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_MatchesCompareTo_ForSharedPrefixes() {
+        // Arrange
+        Random random = new Random(61);
+        String[] hosts = new String[] {"https://example.com/", "https://example.org/", "http://example.com/"};
+        String[] input = new String[5_000];
+        for (int i = 0; i < input.length; i++) {
+            StringBuilder url = new StringBuilder(hosts[random.nextInt(hosts.length)]);
+            for (int segment = random.nextInt(4); segment >= 0; segment--) {
+                url.append("path/").append(random.nextInt(20)).append('/');
+            }
+            input[i] = url.toString();
+        }
+        String[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_MatchesCompareTo_ForNonAsciiCharacters() {
+        // Arrange
+        Random random = new Random(67);
+        String[] input = new String[2_000];
+        for (int i = 0; i < input.length; i++) {
+            char[] chars = new char[random.nextInt(6)];
+            for (int c = 0; c < chars.length; c++) {
+                chars[c] = (char) (random.nextBoolean() ? 'a' + random.nextInt(3) : 0xe0 + random.nextInt(0xff00));
+            }
+            input[i] = new String(chars);
+        }
+        String[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_LongIdenticalStrings() {
+        // Arrange
+        String[] input = new String[100];
+        Arrays.fill(input, "x".repeat(50_000));
+        input[42] = "x".repeat(49_999) + "w";
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input[0], is("x".repeat(49_999) + "w"));
+        assertThat(input[99], is("x".repeat(50_000)));
+    }
+
+    @Test
+    public void testSort_Range() {
+        // Arrange
+        String[] input = new String[] {"z", "c", "b", "a", "y"};
+
+        // Act
+        sorter.sort(input, 1, 3);
+
+        // Assert
+        assertThat(input, is(new String[] {"z", "a", "b", "c", "y"}));
+    }
+
+    @Test
+    public void testSort_RangeOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> sorter.sort(new String[] {"a"}, 0, 1));
+    }
+}
@@ -0,0 +1,89 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Random;
+
+@ExtendWith(MockitoExtension.class)
+public class ThreeWayQuickSortTest {
+
+    ThreeWayQuickSort<Integer> sorter;
+
+    Random spyRandom;
+
+    @BeforeEach
+    public void setup() {
+        // See https://github.com/mockito/mockito/issues/2560 for why withoutAnnotations() is necessary
+        spyRandom = mock(Random.class, withSettings()
+                .withoutAnnotations()
+                .spiedInstance(new Random()));
+        sorter = new ThreeWayQuickSort<>(spyRandom);
+    }
+
+    @Test
+    public void testSort() {
+        // Arrange
+        Integer[] input = new Integer[] {1, 4, 3, 9, 5};
+        Integer[] expected = new Integer[] {1, 3, 4, 5, 9};
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_WithDuplicates() {
+        // Arrange
+        Integer[] input = new Integer[] {1, 9, 1, 5, 3, 3};
+        Integer[] expected = new Integer[] {1, 1, 3, 3, 5, 9};
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_HandlesLowCardinalityInput() {
+        // Arrange
+        Integer[] input = new SortVendor(13).vendIntegers(200_000, 4);
+        Integer[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testPartition() {
+        // Arrange
+        Integer[] input = new Integer[] {2, 3, 1, 6, 2, 5, 2};
+        Integer[] expected = new Integer[] {1, 2, 2, 2, 5, 6, 3};
+        int pivotIndex = 0;
+        doReturn(pivotIndex).when(spyRandom).nextInt(anyInt());
+
+        // Act
+        int[] bounds = sorter.partition(input, 0, input.length - 1);
+
+        // Assert
+        assertThat(bounds, is(new int[] {1, 3}));
+        assertThat(input, is(expected));
+    }
+}
@@ -0,0 +1,189 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+public class TimSortTest {
+
+    TimSort<Integer> sorter;
+
+    SortVendor vendor;
+
+    @BeforeEach
+    public void setup() {
+        sorter = new TimSort<>();
+        vendor = new SortVendor(37);
+    }
+
+    @Test
+    public void testSort() {
+        // Arrange
+        Integer[] input = new Integer[] {3, 2, 1, 4};
+        Integer[] expected = new Integer[] {1, 2, 3, 4};
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_SortsDuplicates() {
+        // Arrange
+        Integer[] input = new Integer[] {1, 5, 5, 3, 5, 2, 3};
+        Integer[] expected = new Integer[] {1, 2, 3, 3, 5, 5, 5};
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_MatchesArraysSort_OnLargeInput() {
+        // Arrange
+        Integer[] input = vendor.vendIntegers(50_000, 10_000);
+        Integer[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_MatchesArraysSort_OnPartiallySortedInput() {
+        // Arrange
+        // Ascending and descending runs of varying length, with stragglers thrown in
+        Integer[] input = new Integer[20_000];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = (i / 1_000) % 2 == 0 ? i : 30_000 - i;
+        }
+        Integer[] stragglers = vendor.vendIntegers(200, 30_000);
+        for (int i = 0; i < stragglers.length; i++) {
+            input[i * 97] = stragglers[i];
+        }
+        Integer[] expected = input.clone();
+        Arrays.sort(expected);
+
+        // Act
+        sorter.sort(input);
+
+        // Assert
+        assertThat(input, is(expected));
+    }
+
+    @Test
+    public void testSort_IsStable() {
+        // Arrange
+        TimSort<SortVendor.Keyed> keyedSorter = new TimSort<>();
+        SortVendor.Keyed[] input = vendor.vendKeyed(10_000, 20);
+
+        // Act
+        keyedSorter.sort(input);
+
+        // Assert
+        assertThat(SortVendor.isStablySorted(input), is(true));
+    }
+
+    @Test
+    public void testSort_IsStable_WhenDescendingRunsContainDuplicates() {
+        // Arrange
+        // Non-strictly descending input can't be reversed as a single run without reordering equal keys
+        TimSort<SortVendor.Keyed> keyedSorter = new TimSort<>();
+        SortVendor.Keyed[] input = new SortVendor.Keyed[1_000];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = new SortVendor.Keyed((input.length - i) / 3, i);
+        }
+
+        // Act
+        keyedSorter.sort(input);
+
+        // Assert
+        assertThat(SortVendor.isStablySorted(input), is(true));
+    }
+
+    @Test
+    public void testSort_UsesLinearComparisons_OnSortedAndReversedInput() {
+        // Arrange
+        int n = 10_000;
+        Counted[] sorted = new Counted[n], reversed = new Counted[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = new Counted(i);
+            reversed[i] = new Counted(n - i);
+        }
+        TimSort<Counted> countedSorter = new TimSort<>();
+
+        // Act
+        Counted.comparisons = 0;
+        countedSorter.sort(sorted);
+        long sortedComparisons = Counted.comparisons;
+        Counted.comparisons = 0;
+        countedSorter.sort(reversed);
+        long reversedComparisons = Counted.comparisons;
+
+        // Assert
+        assertThat(sortedComparisons, is((long) n - 1));
+        assertThat(reversedComparisons, is((long) n - 1));
+    }
+
+    @Test
+    public void testSort_UsesFewComparisons_WhenMergingTwoRuns() {
+        // Arrange
+        // Two interleaved ascending runs - galloping should avoid comparing every element against every other
+        int n = 10_000;
+        Counted[] input = new Counted[n];
+        for (int i = 0; i < n / 2; i++) {
+            input[i] = new Counted(i < n / 4 ? i : i + n / 2);
+            input[n / 2 + i] = new Counted(n / 4 + i);
+        }
+
+        // Act
+        Counted.comparisons = 0;
+        new TimSort<Counted>().sort(input);
+
+        // Assert
+        assertThat(Counted.comparisons, lessThan((long) n * 2));
+        for (int i = 1; i < n; i++) {
+            assertThat(input[i - 1].val <= input[i].val, is(true));
+        }
+    }
+
+    @Test
+    public void testMinRunLength() {
+        // Assert
+        assertThat(TimSort.minRunLength(31), is(31));
+        assertThat(TimSort.minRunLength(64), is(16));
+        assertThat(TimSort.minRunLength(65), is(17));
+        assertThat(TimSort.minRunLength(1 << 20), is(16));
+    }
+
+    /**
+     * Counts the number of comparisons made across all instances.
+     */
+    static class Counted implements Comparable<Counted> {
+        static long comparisons;
+
+        final int val;
+
+        Counted(int val) {
+            this.val = val;
+        }
+
+        @Override
+        public int compareTo(Counted other) {
+            comparisons++;
+            return Integer.compare(val, other.val);
+        }
+    }
+}
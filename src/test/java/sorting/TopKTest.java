@@ -0,0 +1,71 @@
+package sorting;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TopKTest {
+
+    @Test
+    public void testToSortedList_ReturnsLargestKDescending() {
+        // Arrange
+        TopK<Integer> topK = new TopK<>(3);
+
+        // Act
+        for (int val : new int[] {5, 1, 9, 3, 7, 2, 8}) {
+            topK.add(val);
+        }
+
+        // Assert
+        assertThat(topK.toSortedList(), is(List.of(9, 8, 7)));
+        assertThat(topK.peek(), is(7));
+        assertThat(topK.size(), is(3));
+    }
+
+    @Test
+    public void testToSortedList_MatchesFullSort_OnLargeStream() {
+        // Arrange
+        Integer[] input = new SortVendor(97).vendIntegers(20_000, 5_000);
+        List<Integer> expected = new ArrayList<>(Arrays.asList(input));
+        expected.sort(Collections.reverseOrder());
+        TopK<Integer> topK = new TopK<>(50);
+
+        // Act
+        for (Integer val : input) {
+            topK.add(val);
+        }
+
+        // Assert
+        assertThat(topK.toSortedList(), is(expected.subList(0, 50)));
+        assertThat(topK.toSortedList(), is(expected.subList(0, 50))); // Reading doesn't consume the collector
+    }
+
+    @Test
+    public void testToSortedList_ReturnsEverything_WhenFewerThanKAdded() {
+        // Arrange
+        TopK<Integer> topK = new TopK<>(10);
+
+        // Act
+        topK.add(2);
+        topK.add(4);
+
+        // Assert
+        assertThat(topK.toSortedList(), is(List.of(4, 2)));
+    }
+
+    @Test
+    public void testPeek_ReturnsNull_WhenEmpty() {
+        // Act
+        TopK<Integer> topK = new TopK<>(1);
+
+        // Assert
+        assertThat(topK.peek(), is(nullValue()));
+    }
+}